@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link BeanCache#create} when populating a new cache and when hitting existing entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class BeanCacheBenchmark {
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"1", "10", "100"})
+    public int bindingCount;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private Binding<Object>[] bindings;
+
+    private Annotation[] qualifiers;
+
+    private BeanCache<Annotation, Object> populatedCache;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                for (int i = 0; i < bindingCount; i++) {
+                    bind(Object.class).annotatedWith(Names.named("bean" + i)).toInstance(Integer.valueOf(i));
+                }
+            }
+        });
+
+        bindings = new Binding[bindingCount];
+        qualifiers = new Annotation[bindingCount];
+        populatedCache = new BeanCache<>();
+        for (int i = 0; i < bindingCount; i++) {
+            qualifiers[i] = Names.named("bean" + i);
+            bindings[i] = injector.getBinding(Key.get(Object.class, qualifiers[i]));
+            populatedCache.create(qualifiers[i], bindings[i], i);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public void createEntries(final Blackhole blackhole) {
+        final BeanCache<Annotation, Object> cache = new BeanCache<>();
+        for (int i = 0; i < bindingCount; i++) {
+            blackhole.consume(cache.create(qualifiers[i], bindings[i], i));
+        }
+    }
+
+    @Benchmark
+    public void existingEntries(final Blackhole blackhole) {
+        for (int i = 0; i < bindingCount; i++) {
+            blackhole.consume(populatedCache.create(qualifiers[i], bindings[i], i));
+        }
+    }
+
+    @Benchmark
+    public void flush(final Blackhole blackhole) {
+        blackhole.consume(populatedCache.flush());
+    }
+}
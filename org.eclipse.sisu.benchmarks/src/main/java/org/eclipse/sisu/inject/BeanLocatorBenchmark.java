@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+import org.eclipse.sisu.BeanEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link DefaultBeanLocator#locate} for unqualified, {@code @Named}, and marker-qualified keys.
+ * <p>
+ * Warm lookups reuse the same locator; cold lookups start from a fresh locator so nothing is cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class BeanLocatorBenchmark {
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    public interface Bean {}
+
+    public static class BeanImpl implements Bean {}
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marked {}
+
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"10", "100"})
+    public int bindingCount;
+
+    @Param({"unqualified", "named", "marker"})
+    public String keyType;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private Injector injector;
+
+    private MutableBeanLocator locator;
+
+    private Key<Bean> key;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class).to(BeanImpl.class);
+                bind(Bean.class).annotatedWith(Marked.class).to(BeanImpl.class);
+                for (int i = 0; i < bindingCount; i++) {
+                    bind(Bean.class).annotatedWith(Names.named("bean" + i)).to(BeanImpl.class);
+                }
+            }
+        });
+
+        locator = newLocator();
+
+        switch (keyType) {
+            case "named":
+                key = Key.get(Bean.class, Named.class);
+                break;
+            case "marker":
+                key = Key.get(Bean.class, Marked.class);
+                break;
+            default:
+                key = Key.get(Bean.class);
+                break;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public void warmLocate(final Blackhole blackhole) {
+        for (final BeanEntry<?, Bean> entry : locator.locate(key)) {
+            blackhole.consume(entry);
+        }
+    }
+
+    @Benchmark
+    public void warmLocateFirst(final Blackhole blackhole) {
+        blackhole.consume(locator.locate(key).iterator().next());
+    }
+
+    @Benchmark
+    public void coldLocate(final Blackhole blackhole) {
+        for (final BeanEntry<?, Bean> entry : newLocator().locate(key)) {
+            blackhole.consume(entry);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private MutableBeanLocator newLocator() {
+        final MutableBeanLocator newLocator = new DefaultBeanLocator();
+        newLocator.add(new InjectorBindings(injector, new DefaultRankingFunction(0)));
+        return newLocator;
+    }
+}
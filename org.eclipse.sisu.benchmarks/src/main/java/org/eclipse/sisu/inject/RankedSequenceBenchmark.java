@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link RankedSequence} bulk insertion, plain iteration, and iteration under contention.
+ * <p>
+ * Bulk insertion is compared against {@link FlatSequence}, which keeps the original flat copy-on-write layout.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class RankedSequenceBenchmark {
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private Object[] elements;
+
+    private RankedSequence<Object> sequence;
+
+    private int next;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        elements = new Object[size];
+        sequence = new RankedSequence<>();
+        for (int i = 0; i < size; i++) {
+            elements[i] = Integer.valueOf(i);
+            sequence.insert(elements[i], rank(i));
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    @Group("bulkInsert")
+    public RankedSequence<Object> bulkInsert() {
+        final RankedSequence<Object> newSequence = new RankedSequence<>();
+        for (int i = 0; i < size; i++) {
+            newSequence.insert(elements[i], rank(i));
+        }
+        return newSequence;
+    }
+
+    @Benchmark
+    @Group("bulkInsertFlat")
+    public FlatSequence bulkInsertFlat() {
+        final FlatSequence newSequence = new FlatSequence();
+        for (int i = 0; i < size; i++) {
+            newSequence.insert(elements[i], rank(i));
+        }
+        return newSequence;
+    }
+
+    @Benchmark
+    @Group("iterate")
+    public void iterate(final Blackhole blackhole) {
+        for (final Object element : sequence) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public void contendedIterate(final Blackhole blackhole) {
+        for (final Object element : sequence) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedUpdate() {
+        final Object element = elements[next++ % size];
+        sequence.remove(element);
+        sequence.insert(element, rank(next));
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static int rank(final int i) {
+        return i * 0x9E3779B9 >> 8; // spread ranks so inserts land all over the sequence
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Baseline sequence that copies its entire content on every insert.
+     */
+    public static final class FlatSequence {
+        private volatile Object[] objs = new Object[0];
+
+        private volatile long[] uids = new long[0];
+
+        private int uniq;
+
+        void insert(final Object element, final int rank) {
+            final Object[] oldObjs = objs;
+            final long[] oldUIDs = uids;
+
+            final int size = oldObjs.length + 1;
+            final Object[] newObjs = new Object[size];
+            final long[] newUIDs = new long[size];
+
+            final long uid = RankedSequence.rank2uid(rank, uniq++);
+            final int index = oldUIDs.length > 0 ? RankedSequence.safeBinarySearch(oldUIDs, uid) : 0;
+
+            System.arraycopy(oldObjs, 0, newObjs, 0, index);
+            System.arraycopy(oldUIDs, 0, newUIDs, 0, index);
+            newObjs[index] = element;
+            newUIDs[index] = uid;
+            System.arraycopy(oldObjs, index, newObjs, index + 1, size - index - 1);
+            System.arraycopy(oldUIDs, index, newUIDs, index + 1, size - index - 1);
+
+            objs = newObjs;
+            uids = newUIDs;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link QualifiedTypeVisitor} scanning of real-world JARs with and without the constant pool prefilter.
+ * <p>
+ * By default the JARs on the benchmark class path are scanned, which for {@code benchmarks.jar} covers Guice, Guava,
+ * ASM, JMH, and Sisu; use {@code -p classPath=a.jar:b.jar} to scan a different set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class QualifierPrefilterBenchmark {
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({""})
+    public String classPath;
+
+    @Param({"false", "true"})
+    public boolean prefilter;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private URLClassLoader loader;
+
+    private ClassSpace space;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() throws IOException {
+        final String path = classPath.isEmpty() ? System.getProperty("java.class.path") : classPath;
+        final List<URL> jars = new ArrayList<>();
+        for (final String entry : path.split(File.pathSeparator)) {
+            if (entry.endsWith(".jar")) {
+                jars.add(new File(entry).toURI().toURL());
+            }
+        }
+        final URL[] urls = jars.toArray(new URL[jars.size()]);
+        loader = new URLClassLoader(urls, QualifierPrefilterBenchmark.class.getClassLoader());
+        space = new URLClassSpace(loader, urls);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loader.close();
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public void scanQualifiedTypes(final Blackhole blackhole) {
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, false, false, prefilter)
+                .accept(new QualifiedTypeVisitor((qualifiedType, source) -> blackhole.consume(qualifiedType)));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures sequential and parallel {@link SpaceScanner#accept} over a synthetic jar, where one in every four classes
+ * is {@code @Named}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class SpaceScannerBenchmark {
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"100", "1000"})
+    public int classCount;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private File jar;
+
+    private URLClassLoader loader;
+
+    private ClassSpace space;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() throws IOException {
+        jar = File.createTempFile("synthetic", ".jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (int i = 0; i < classCount; i++) {
+                final String name = "synthetic/Bean" + i;
+                out.putNextEntry(new ZipEntry(name + ".class"));
+                out.write(generateClass(name, i % 4 == 0));
+                out.closeEntry();
+            }
+        }
+        loader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, SpaceScannerBenchmark.class.getClassLoader());
+        space = new URLClassSpace(loader, new URL[] {jar.toURI().toURL()});
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loader.close();
+        jar.delete();
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public void scanAnnotations(final Blackhole blackhole) {
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, false, parallel).accept(new SpaceVisitor() {
+            @Override
+            public void enterSpace(final ClassSpace _space) {
+                // nothing to do
+            }
+
+            @Override
+            public ClassVisitor visitClass(final URL url) {
+                return new ClassVisitor() {
+                    @Override
+                    public void enterClass(
+                            final int modifiers, final String name, final String _extends, final String[] _implements) {
+                        blackhole.consume(name);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(final String desc) {
+                        blackhole.consume(desc);
+                        return null;
+                    }
+
+                    @Override
+                    public void leaveClass() {
+                        // nothing to do
+                    }
+                };
+            }
+
+            @Override
+            public void leaveSpace() {
+                // nothing to do
+            }
+        });
+    }
+
+    @Benchmark
+    public void scanQualifiedTypes(final Blackhole blackhole) {
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, false, parallel)
+                .accept(new QualifiedTypeVisitor((qualifiedType, source) -> blackhole.consume(qualifiedType)));
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static byte[] generateClass(final String name, final boolean named) {
+        final ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, "java/lang/Object", null);
+        if (named) {
+            cw.visitAnnotation("Ljavax/inject/Named;", true).visitEnd();
+        }
+        final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(1, 1);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Named;
+import org.eclipse.sisu.inject.DefaultBeanLocator;
+import org.eclipse.sisu.inject.DefaultRankingFunction;
+import org.eclipse.sisu.inject.InjectorBindings;
+import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures iteration and random access through {@link EntryListAdapter} and {@link EntryMapAdapter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class EntryAdapterBenchmark {
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"10", "100"})
+    public int beanCount;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private List<Object> list;
+
+    private Map<Named, Object> map;
+
+    private Named lastName;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                for (int i = 0; i < beanCount; i++) {
+                    bind(Object.class).annotatedWith(Names.named("bean" + i)).toInstance(Integer.valueOf(i));
+                }
+            }
+        });
+
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        locator.add(new InjectorBindings(injector, new DefaultRankingFunction(0)));
+
+        list = new EntryListAdapter<>(locator.<Named, Object>locate(Key.get(Object.class, Named.class)));
+        map = new EntryMapAdapter<>(locator.<Named, Object>locate(Key.get(Object.class, Named.class)));
+
+        lastName = map.keySet().stream().reduce((a, b) -> b).get();
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public void iterateList(final Blackhole blackhole) {
+        for (final Object value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public Object listGetLast() {
+        return list.get(beanCount - 1);
+    }
+
+    @Benchmark
+    public int listSize() {
+        return list.size();
+    }
+
+    @Benchmark
+    public void iterateMap(final Blackhole blackhole) {
+        for (final Map.Entry<Named, Object> entry : map.entrySet()) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public Object mapGetLast() {
+        return map.get(lastName);
+    }
+
+    @Benchmark
+    public int mapSize() {
+        return map.size();
+    }
+}
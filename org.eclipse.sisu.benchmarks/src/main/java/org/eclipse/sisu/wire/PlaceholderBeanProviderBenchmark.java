@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PlaceholderBeanProvider#get} for plain, defaulted, nested, and converted placeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class PlaceholderBeanProviderBenchmark {
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    public static class Placeholders {
+        @Inject
+        @Named("${host}")
+        Provider<String> plain;
+
+        @Inject
+        @Named("${missing:-localhost}")
+        Provider<String> defaulted;
+
+        @Inject
+        @Named("http://${host}:${port}/${path}")
+        Provider<String> nested;
+
+        @Inject
+        @Named("${port}")
+        Provider<Integer> converted;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private Placeholders placeholders;
+
+    // ----------------------------------------------------------------------
+    // Setup
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("host", "example.org");
+        properties.put("port", "8080");
+        properties.put("path", "${host}/index.html");
+
+        placeholders = Guice.createInjector(new WireModule(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(ParameterKeys.PROPERTIES).toInstance(properties);
+                        bind(Placeholders.class); // so its placeholder dependencies get wired
+                    }
+                }))
+                .getInstance(Placeholders.class);
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmarks
+    // ----------------------------------------------------------------------
+
+    @Benchmark
+    public String plain() {
+        return placeholders.plain.get();
+    }
+
+    @Benchmark
+    public String defaulted() {
+        return placeholders.defaulted.get();
+    }
+
+    @Benchmark
+    public String nested() {
+        return placeholders.nested.get();
+    }
+
+    @Benchmark
+    public Integer converted() {
+        return placeholders.converted.get();
+    }
+}
@@ -67,7 +67,9 @@ import javax.inject.Qualifier;
  *
  * Tip: if you wrap {@link org.eclipse.sisu.wire.WireModule WireModule} around your set of application modules then it
  * will merge multiple &#064;{@link Parameters} bindings; for maps by providing an aggregate view over all bound maps,
- * for arrays by appending their elements into a single argument array.
+ * for arrays by appending their elements into a single argument array. Bound maps that implement
+ * {@link org.eclipse.sisu.inject.Versioned Versioned} are indexed by key until their version changes; other maps are
+ * consulted on every lookup.
  */
 @Target(value = {ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -12,6 +12,9 @@
  */
 package org.eclipse.sisu.bean;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -30,6 +33,10 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
 
     private static final Method[] NO_METHODS = {};
 
+    private static final MethodHandle[] NO_HANDLES = {};
+
+    private static final MethodType LIFECYCLE_TYPE = MethodType.methodType(void.class, Object.class);
+
     static final BeanLifecycle NO_OP = new BeanLifecycle(null, null);
 
     // ----------------------------------------------------------------------
@@ -40,6 +47,11 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
 
     private final Method[] stopMethods;
 
+    // compiled invokers, null elements fall back to reflection
+    private final MethodHandle[] startHandles;
+
+    private final MethodHandle[] stopHandles;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -56,6 +68,9 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
 
         // ensure we can invoke all methods
         AccessController.doPrivileged(this); // NOSONAR
+
+        startHandles = toHandles(this.startMethods);
+        stopHandles = toHandles(this.stopMethods);
     }
 
     // ----------------------------------------------------------------------
@@ -88,7 +103,12 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
         int i = startMethods.length - 1;
         try {
             for (; i >= 0; i--) {
-                startMethods[i].invoke(bean);
+                final MethodHandle handle = startHandles[i];
+                if (null != handle) {
+                    handle.invokeExact(bean);
+                } else {
+                    startMethods[i].invoke(bean);
+                }
             }
         } catch (final Throwable e) // NOSONAR see Logs.catchThrowable
         {
@@ -114,7 +134,12 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
         // stop subclass before superclass, log any failures along the way
         for (int i = 0; i < stopMethods.length; i++) {
             try {
-                stopMethods[i].invoke(bean);
+                final MethodHandle handle = stopHandles[i];
+                if (null != handle) {
+                    handle.invokeExact(bean);
+                } else {
+                    stopMethods[i].invoke(bean);
+                }
             } catch (final Throwable e) // NOSONAR see Logs.catchThrowable
             {
                 final Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
@@ -147,4 +172,23 @@ final class BeanLifecycle implements PrivilegedAction<Void> {
     private static Method[] toArray(final List<Method> methods) {
         return null != methods && !methods.isEmpty() ? methods.toArray(new Method[methods.size()]) : NO_METHODS;
     }
+
+    /**
+     * Unreflects the given methods once, so each lifecycle call is a direct handle invocation the JIT can inline.
+     */
+    private static MethodHandle[] toHandles(final Method[] methods) {
+        if (methods.length == 0) {
+            return NO_HANDLES;
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle[] handles = new MethodHandle[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            try {
+                handles[i] = lookup.unreflect(methods[i]).asType(LIFECYCLE_TYPE);
+            } catch (final IllegalAccessException e) {
+                Logs.trace("Using reflection for: {} cause: {}", methods[i], e);
+            }
+        }
+        return handles;
+    }
 }
@@ -17,6 +17,8 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.sisu.inject.Weak;
 
 /**
  * {@link BeanManager} that manages JSR250 beans and schedules lifecycle events.
@@ -31,6 +33,13 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
     private final Map<Class<?>, BeanLifecycle> lifecycles = //
             new ConcurrentHashMap<>(16, 0.75f, 1);
 
+    // lifecycles resolved against concrete bean classes, including negative results; weak keys so bean classes
+    // (and their class loaders) are not kept alive by the resolution cache alone
+    private final Map<Class<?>, BeanLifecycle> resolvedLifecycles = Weak.concurrentKeys();
+
+    // bumped whenever lifecycles change, so resolutions that overlap a change are discarded
+    private final AtomicInteger generation = new AtomicInteger();
+
     private final Deque<Object> stoppableBeans = new ArrayDeque<>();
 
     // ----------------------------------------------------------------------
@@ -99,6 +108,7 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
         if (null == lifecycle) {
             lifecycle = builder.build(clazz);
             lifecycles.put(clazz, lifecycle);
+            invalidateResolutions(); // may affect existing resolutions of subclasses
         }
         return lifecycle != BeanLifecycle.NO_OP;
     }
@@ -110,18 +120,44 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
      * @return Lifecycle for the bean
      */
     private BeanLifecycle lifecycleFor(final Object bean) {
-        if (null != bean) {
-            // check the class hierarchy, just in case the bean instance has been proxied/enhanced
-            for (Class<?> c = bean.getClass(); null != c && c != Object.class; c = c.getSuperclass()) {
-                final BeanLifecycle lifecycle = lifecycles.get(c);
-                if (null != lifecycle) {
-                    return lifecycle;
-                }
+        if (null == bean) {
+            return BeanLifecycle.NO_OP;
+        }
+        final Class<?> clazz = bean.getClass();
+        BeanLifecycle lifecycle = resolvedLifecycles.get(clazz);
+        if (null == lifecycle) {
+            final int expectedGeneration = generation.get();
+            lifecycle = resolveLifecycle(clazz);
+            resolvedLifecycles.put(clazz, lifecycle);
+            if (generation.get() != expectedGeneration) {
+                resolvedLifecycles.remove(clazz); // lifecycles changed while resolving, so don't keep this result
+            }
+        }
+        return lifecycle;
+    }
+
+    /**
+     * Finds the nearest JSR250 lifecycle built for the given class or one of its superclasses.
+     *
+     * @param clazz The bean class
+     * @return Lifecycle for the bean class
+     */
+    private BeanLifecycle resolveLifecycle(final Class<?> clazz) {
+        // check the class hierarchy, just in case the bean instance has been proxied/enhanced
+        for (Class<?> c = clazz; null != c && c != Object.class; c = c.getSuperclass()) {
+            final BeanLifecycle lifecycle = lifecycles.get(c);
+            if (null != lifecycle) {
+                return lifecycle;
             }
         }
         return BeanLifecycle.NO_OP;
     }
 
+    private void invalidateResolutions() {
+        generation.incrementAndGet();
+        resolvedLifecycles.clear();
+    }
+
     private void pushStoppable(final Object bean) {
         synchronized (stoppableBeans) {
             stoppableBeans.addLast(bean);
@@ -153,6 +189,7 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
                 iterator.remove();
             }
         }
+        invalidateResolutions();
     }
 
     /**
@@ -13,6 +13,7 @@
 package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
+import com.google.inject.Key;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -60,6 +61,25 @@ final class BeanCache<Q extends Annotation, T> {
      * @return Associated bean entry
      */
     public BeanEntry<Q, T> create(final Q qualifier, final Binding<T> binding, final int rank) {
+        return create(qualifier, binding, rank, null, null);
+    }
+
+    /**
+     * Atomically creates a new {@link BeanEntry} for the given {@link Binding} reference.
+     *
+     * @param qualifier The qualifier
+     * @param binding The binding
+     * @param rank The assigned rank
+     * @param key The located key
+     * @param metrics Optional metrics, used to record cache hits and time provisioning of new entries
+     * @return Associated bean entry
+     */
+    public BeanEntry<Q, T> create(
+            final Q qualifier,
+            final Binding<T> binding,
+            final int rank,
+            final Key<T> key,
+            final BeanLocatorMetrics metrics) {
         LazyBeanEntry newBean;
 
         Object o, n;
@@ -71,19 +91,24 @@ final class BeanCache<Q extends Annotation, T> {
             o = mapping;
             if (null == o) {
                 // most common case: adding the one (and-only) entry
-                n = newBean = new LazyBeanEntry(qualifier, binding, rank);
+                n = newBean = new LazyBeanEntry(qualifier, binding, rank, key, metrics);
             } else if (o instanceof LazyBeanEntry) {
                 final LazyBeanEntry oldBean = (LazyBeanEntry) o;
                 if (binding == oldBean.binding) {
+                    if (null != metrics) {
+                        metrics.cacheHit(key);
+                    }
                     return oldBean;
                 }
-                n = createMap(oldBean, newBean = new LazyBeanEntry(qualifier, binding, rank));
+                n = createMap(oldBean, newBean = new LazyBeanEntry(qualifier, binding, rank, key, metrics));
             } else {
                 synchronized (this) {
                     final Map<Binding, LazyBeanEntry> map = (Map) o;
                     if (null == (newBean = map.get(binding))) {
-                        map.put(binding, newBean = new LazyBeanEntry(qualifier, binding, rank));
+                        map.put(binding, newBean = new LazyBeanEntry(qualifier, binding, rank, key, metrics));
                         mutated = true;
+                    } else if (null != metrics) {
+                        metrics.cacheHit(key);
                     }
                     return newBean;
                 }
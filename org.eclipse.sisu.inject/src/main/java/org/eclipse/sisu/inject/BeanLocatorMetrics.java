@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.Key;
+
+/**
+ * Receives instrumentation events from the {@link DefaultBeanLocator}; events are recorded against the located key.
+ * <p>
+ * No events are generated unless a {@link BeanLocatorMetrics} is bound in an injector published to the locator:
+ *
+ * <pre>
+ * bind( BeanLocatorMetrics.class ).to( DefaultBeanLocatorMetrics.class );</pre>
+ *
+ * Implementations are called on the lookup path, so they must be thread-safe and return quickly.
+ */
+public interface BeanLocatorMetrics {
+    /**
+     * Records a lookup of the given key.
+     *
+     * @param key The located key
+     */
+    void lookup(Key<?> key);
+
+    /**
+     * Records that a bean entry for the given key was served from the cache.
+     *
+     * @param key The located key
+     */
+    void cacheHit(Key<?> key);
+
+    /**
+     * Records that a candidate binding was rejected by the qualifying strategy for the given key.
+     *
+     * @param key The located key
+     */
+    void qualifierReject(Key<?> key);
+
+    /**
+     * Records that an implicit lookup of the given key fell back to a just-in-time binding.
+     *
+     * @param key The located key
+     */
+    void implicitFallback(Key<?> key);
+
+    /**
+     * Records how long it took a bean entry for the given key to create its value; called at most once per entry.
+     *
+     * @param key The located key
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void provisioned(Key<?> key, long nanos);
+}
@@ -17,6 +17,10 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -36,38 +40,89 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     private final RankedSequence<BindingPublisher> publishers = new RankedSequence<>();
 
-    private final ConcurrentMap<Long, RankedBindings> cachedBindings = Weak.concurrentValues(256, 1);
+    private final RankedBindingsCache cachedBindings = new RankedBindingsCache();
+
+    // canonical located beans per key, so repeated lookups share the same singleton entries
+    private final ConcurrentMap<Key, LocatedBeans> cachedLocatedBeans = Weak.concurrentValues(256, 8);
 
     // reverse mapping; can't use watcher as key since it may not be unique
     private final Map<WatchedBeans, Object> cachedWatchers = Weak.values();
 
     private final ImplicitBindings implicitBindings = new ImplicitBindings(publishers);
 
-    private final Long[] typeIdHolder = new Long[1];
-
     private final ReentrantReadWriteLock publisherLock = new ReentrantReadWriteLock();
 
+    // identifies the current frozen state; null while the locator is thawed
+    private volatile Object frozenToken; // NOSONAR
+
+    // optional instrumentation, only used when bound
+    private volatile BeanLocatorMetrics metrics; // NOSONAR
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
 
     @Override
     public Iterable<BeanEntry> locate(final Key key) {
-        final TypeLiteral type = key.getTypeLiteral();
-        RankedBindings bindings = fetchBindings(type, null);
-        if (null == bindings) {
-            synchronized (cachedBindings) // perform new lookup
-            {
-                bindings = fetchBindings(type, typeIdHolder);
-                if (null == bindings) {
-                    // still not cached, so go ahead with assigned id
-                    bindings = new RankedBindings(type, publishers);
-                    cachedBindings.put(typeIdHolder[0], bindings);
-                }
-            }
+        final BeanLocatorMetrics currentMetrics = metrics;
+        final LocatedBeans beans = locateBeans(key);
+        if (null != currentMetrics) {
+            currentMetrics.lookup(key);
         }
-        final boolean isImplicit = key.getAnnotationType() == null && TypeArguments.isImplicit(type);
-        return new LocatedBeans(key, bindings, isImplicit ? implicitBindings : null);
+        // the view checks the frozen state each time it's iterated, so it stays dynamic across freeze/thaw
+        return beans.newView(currentMetrics, this);
+    }
+
+    /**
+     * Freezes this locator, so lookups are served from pre-resolved snapshots of qualified beans.
+     * <p>
+     * Each snapshot is resolved on the first iteration of its key and re-resolved when publishers or bindings change;
+     * sequences located before or during the freeze keep following those changes.
+     */
+    public synchronized void freeze() {
+        if (null == frozenToken) {
+            frozenToken = new Object();
+        }
+    }
+
+    /**
+     * Thaws this locator, discarding any pre-resolved snapshots; lookups go back to being resolved on demand.
+     */
+    public synchronized void thaw() {
+        frozenToken = null;
+    }
+
+    /**
+     * @return {@code true} if this locator is frozen; otherwise {@code false}
+     */
+    public boolean isFrozen() {
+        return null != frozenToken;
+    }
+
+    /**
+     * @return Token identifying the current frozen state; {@code null} if this locator is thawed
+     */
+    Object frozenToken() {
+        return frozenToken;
+    }
+
+    /**
+     * Instruments this locator with the given metrics; bean entries created before this call are not timed.
+     * <p>
+     * Singleton entries are shared by every lookup of the same key, so they keep recording their provisioning against
+     * the metrics in place when they were first created; lookup events always go to the current metrics.
+     *
+     * @param metrics The metrics; {@code null} to disable instrumentation
+     */
+    public void setMetrics(final BeanLocatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return Metrics instrumenting this locator; {@code null} if instrumentation is disabled
+     */
+    public BeanLocatorMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
@@ -89,21 +144,31 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     @Override
     public boolean add(final BindingPublisher publisher) {
+        return addAll(Collections.singletonList(publisher));
+    }
+
+    @Override
+    public boolean remove(final BindingPublisher publisher) {
+        return removeAll(Collections.singletonList(publisher));
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends BindingPublisher> newPublishers) {
+        final List<BindingPublisher> addedPublishers = new ArrayList<>(newPublishers.size());
         final WatchedBeans[] currentWatchers;
         publisherLock.writeLock().lock();
         try {
-            if (publishers.contains(publisher)) {
-                return false;
-            }
-            Logs.trace("Add publisher: {}", publisher, null);
-            synchronized (cachedBindings) // block new lookup while we update the cache
-            {
-                final int rank = publisher.maxBindingRank();
-                publishers.insert(publisher, rank);
-                for (final RankedBindings bindings : cachedBindings.values()) {
-                    bindings.add(publisher, rank);
+            for (final BindingPublisher publisher : newPublishers) {
+                if (!publishers.contains(publisher)) {
+                    Logs.trace("Add publisher: {}", publisher, null);
+                    publishers.insert(publisher, publisher.maxBindingRank());
+                    addedPublishers.add(publisher);
                 }
             }
+            if (addedPublishers.isEmpty()) {
+                return false;
+            }
+            publishersChanged();
             synchronized (cachedWatchers) {
                 // capture snapshot of current watchers while we hold the write-lock
                 currentWatchers = cachedWatchers.keySet().toArray(new WatchedBeans[0]);
@@ -113,9 +178,11 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
             publisherLock.writeLock().unlock();
         }
         try {
-            // subscribe watchers to the new publisher while holding the read-lock
-            for (final WatchedBeans beans : currentWatchers) {
-                publisher.subscribe(beans);
+            // subscribe watchers to the new publishers while holding the read-lock
+            for (final BindingPublisher publisher : addedPublishers) {
+                for (final WatchedBeans beans : currentWatchers) {
+                    publisher.subscribe(beans);
+                }
             }
         } finally {
             publisherLock.readLock().unlock();
@@ -124,22 +191,22 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
     }
 
     @Override
-    public boolean remove(final BindingPublisher publisher) {
-        final BindingPublisher oldPublisher;
+    public boolean removeAll(final Collection<? extends BindingPublisher> oldPublishers) {
+        final List<BindingPublisher> removedPublishers = new ArrayList<>(oldPublishers.size());
         final WatchedBeans[] currentWatchers;
         publisherLock.writeLock().lock();
         try {
-            synchronized (cachedBindings) // block new lookup while we update the cache
-            {
-                oldPublisher = publishers.remove(publisher);
-                if (null == oldPublisher) {
-                    return false;
-                }
-                Logs.trace("Remove publisher: {}", oldPublisher, null);
-                for (final RankedBindings bindings : cachedBindings.values()) {
-                    bindings.remove(oldPublisher);
+            for (final BindingPublisher publisher : oldPublishers) {
+                final BindingPublisher oldPublisher = publishers.remove(publisher);
+                if (null != oldPublisher) {
+                    Logs.trace("Remove publisher: {}", oldPublisher, null);
+                    removedPublishers.add(oldPublisher);
                 }
             }
+            if (removedPublishers.isEmpty()) {
+                return false;
+            }
+            publishersChanged();
             synchronized (cachedWatchers) {
                 // capture snapshot of current watchers while we hold the write-lock
                 currentWatchers = cachedWatchers.keySet().toArray(new WatchedBeans[0]);
@@ -149,15 +216,17 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
             publisherLock.writeLock().unlock();
         }
         try {
-            // unsubscribe watchers from the old publisher while holding the read-lock
-            for (final WatchedBeans beans : currentWatchers) {
-                oldPublisher.unsubscribe(beans);
+            // unsubscribe watchers from the old publishers while holding the read-lock
+            for (final BindingPublisher oldPublisher : removedPublishers) {
+                for (final WatchedBeans beans : currentWatchers) {
+                    oldPublisher.unsubscribe(beans);
+                }
             }
         } finally {
             publisherLock.readLock().unlock();
         }
         // one last round of cleanup in case more was freed
-        ((MildConcurrentValues) cachedBindings).compact();
+        cachedBindings.compact();
         return true;
     }
 
@@ -168,9 +237,11 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     @Override
     public void clear() {
+        final List<BindingPublisher> oldPublishers = new ArrayList<>();
         for (final BindingPublisher p : publishers()) {
-            remove(p);
+            oldPublishers.add(p);
         }
+        removeAll(oldPublishers);
     }
 
     // ----------------------------------------------------------------------
@@ -178,26 +249,65 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
     // ----------------------------------------------------------------------
 
     /**
-     * Fetches any bindings currently associated with the given type.
+     * Locates the canonical beans for the given key; reuses any live sequence for the same key.
      *
-     * @param type The generic type
-     * @param idReturn Optional holder, returns the assigned type id
-     * @return Associated bindings; {@code null} if this is a new type
+     * @param key The qualified key
+     * @return Canonical sequence of located beans
      */
-    @SuppressWarnings("boxing")
-    private RankedBindings fetchBindings(final TypeLiteral type, final Long[] idReturn) {
-        // type hash with loader hash is nominally unique, but handle collisions just in case
-        final int loaderHash = System.identityHashCode(type.getRawType().getClassLoader());
-        long id = (long) type.hashCode() << 32 | 0x00000000FFFFFFFFL & loaderHash;
+    private LocatedBeans locateBeans(final Key key) {
+        LocatedBeans beans = cachedLocatedBeans.get(key);
+        if (null == beans) {
+            final LocatedBeans newBeans = newLocatedBeans(key);
+            beans = cachedLocatedBeans.putIfAbsent(key, newBeans);
+            if (null == beans) {
+                beans = newBeans;
+            }
+        }
+        return beans;
+    }
 
-        RankedBindings result;
-        while (null != (result = cachedBindings.get(id)) && !type.equals(result.type())) {
-            id++; // collision! (should be very rare) ... resort to linear scan from base id
+    private LocatedBeans newLocatedBeans(final Key key) {
+        final TypeLiteral type = key.getTypeLiteral();
+        final long id = typeId(type);
+        RankedBindings bindings = cachedBindings.get(id, type);
+        if (null == bindings) {
+            final RankedBindings newBindings = new RankedBindings(type, publishers);
+            bindings = cachedBindings.putIfAbsent(id, newBindings);
+            if (null == bindings) {
+                // catch up with any publishers that changed before we were cached
+                bindings = newBindings;
+                bindings.sync(publishers);
+            }
         }
-        if (null != idReturn) {
-            idReturn[0] = id;
+        final boolean isImplicit = key.getAnnotationType() == null && TypeArguments.isImplicit(type);
+        return new LocatedBeans(key, bindings, isImplicit ? implicitBindings : null);
+    }
+
+    /**
+     * Brings cached bindings up-to-date after publishers change; must be called while holding the write-lock.
+     */
+    private void publishersChanged() {
+        for (final RankedBindings bindings : cachedBindings.values()) {
+            bindings.sync(publishers);
+        }
+        implicitBindings.clear();
+        // discard pre-resolved beans, since the change may also affect implicit bindings
+        synchronized (this) {
+            if (null != frozenToken) {
+                frozenToken = new Object();
+            }
         }
-        return result;
+    }
+
+    /**
+     * Computes a nominally unique id for the given type; collisions are resolved by the cache.
+     *
+     * @param type The generic type
+     * @return Type id
+     */
+    private static long typeId(final TypeLiteral type) {
+        final int loaderHash = System.identityHashCode(type.getRawType().getClassLoader());
+        return (long) type.hashCode() << 32 | 0x00000000FFFFFFFFL & loaderHash;
     }
 
     /**
@@ -209,6 +319,9 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
      */
     @Inject
     void autoPublish(final Injector injector) {
+        if (null == metrics) {
+            metrics = InjectorBindings.findBeanLocatorMetrics(injector);
+        }
         add(InjectorBindings.findBindingPublisher(injector));
     }
 
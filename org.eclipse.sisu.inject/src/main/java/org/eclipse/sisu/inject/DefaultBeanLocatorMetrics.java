@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.Key;
+import com.google.inject.Singleton;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link BeanLocatorMetrics} that keeps striped counters and a provisioning histogram per located key.
+ * <p>
+ * Statistics are kept until {@link #reset()} is called, or until the raw type of their key is unloaded; they are held
+ * against that type, so they never keep its class loader alive. Singleton bean entries are shared between lookups of
+ * the same key, so their provisioning is recorded against the metrics that were in place when the entry was first
+ * created.
+ */
+@Singleton
+public final class DefaultBeanLocatorMetrics implements BeanLocatorMetrics {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    // raw types that have statistics, so they can be listed without keeping the types alive
+    private final Map<Class<?>, Boolean> types = Weak.concurrentKeys();
+
+    // statistics stored alongside each raw type, so they can't pin its class loader
+    private final ClassValue<ConcurrentMap<Key<?>, Stats>> stats = new ClassValue<ConcurrentMap<Key<?>, Stats>>() {
+        @Override
+        protected ConcurrentMap<Key<?>, Stats> computeValue(final Class<?> type) {
+            types.put(type, Boolean.TRUE);
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public void lookup(final Key<?> key) {
+        statsFor(key).lookups.increment();
+    }
+
+    @Override
+    public void cacheHit(final Key<?> key) {
+        statsFor(key).cacheHits.increment();
+    }
+
+    @Override
+    public void qualifierReject(final Key<?> key) {
+        statsFor(key).qualifierRejects.increment();
+    }
+
+    @Override
+    public void implicitFallback(final Key<?> key) {
+        statsFor(key).implicitFallbacks.increment();
+    }
+
+    @Override
+    public void provisioned(final Key<?> key, final long nanos) {
+        statsFor(key).provisioned(nanos);
+    }
+
+    /**
+     * @param key The located key
+     * @return Statistics recorded for the key; {@code null} if nothing was recorded
+     */
+    public Stats get(final Key<?> key) {
+        return statsFor(key.getTypeLiteral().getRawType()).get(key);
+    }
+
+    /**
+     * @return Read-only snapshot of the statistics recorded so far
+     */
+    public Map<Key<?>, Stats> getAll() {
+        final Map<Key<?>, Stats> all = new HashMap<>();
+        for (final Class<?> type : types.keySet()) {
+            all.putAll(statsFor(type));
+        }
+        return Collections.unmodifiableMap(all);
+    }
+
+    /**
+     * Discards all statistics recorded so far.
+     */
+    public void reset() {
+        for (final Class<?> type : types.keySet()) {
+            types.remove(type);
+            stats.remove(type);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private ConcurrentMap<Key<?>, Stats> statsFor(final Class<?> type) {
+        return stats.get(type);
+    }
+
+    private Stats statsFor(final Key<?> key) {
+        final ConcurrentMap<Key<?>, Stats> typeStats =
+                statsFor(key.getTypeLiteral().getRawType());
+        Stats keyStats = typeStats.get(key);
+        if (null == keyStats) {
+            final Stats newStats = new Stats();
+            keyStats = typeStats.putIfAbsent(key, newStats);
+            if (null == keyStats) {
+                keyStats = newStats;
+            }
+        }
+        return keyStats;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Statistics recorded against a single located key.
+     */
+    public static final class Stats {
+        // ----------------------------------------------------------------------
+        // Constants
+        // ----------------------------------------------------------------------
+
+        private static final int HISTOGRAM_SIZE = 64;
+
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final LongAdder lookups = new LongAdder();
+
+        final LongAdder cacheHits = new LongAdder();
+
+        final LongAdder qualifierRejects = new LongAdder();
+
+        final LongAdder implicitFallbacks = new LongAdder();
+
+        private final LongAdder provisions = new LongAdder();
+
+        private final LongAdder provisionNanos = new LongAdder();
+
+        // only allocated once something has been provisioned
+        private volatile LongAdder[] histogram; // NOSONAR
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Stats() {
+            // use package-private constructor
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        /**
+         * @return Number of lookups
+         */
+        public long getLookups() {
+            return lookups.sum();
+        }
+
+        /**
+         * @return Number of bean entries served from the cache
+         */
+        public long getCacheHits() {
+            return cacheHits.sum();
+        }
+
+        /**
+         * @return Number of candidate bindings rejected by the qualifying strategy
+         */
+        public long getQualifierRejects() {
+            return qualifierRejects.sum();
+        }
+
+        /**
+         * @return Number of implicit lookups that fell back to just-in-time bindings
+         */
+        public long getImplicitFallbacks() {
+            return implicitFallbacks.sum();
+        }
+
+        /**
+         * @return Number of values created by bean entries
+         */
+        public long getProvisions() {
+            return provisions.sum();
+        }
+
+        /**
+         * @return Total time spent creating values, in nanoseconds
+         */
+        public long getProvisionNanos() {
+            return provisionNanos.sum();
+        }
+
+        /**
+         * Returns a copy of the provisioning histogram; bucket {@code n} counts values that took less than
+         * 2<sup>n</sup> nanoseconds, but at least 2<sup>n-1</sup> nanoseconds (bucket zero counts instant values).
+         *
+         * @return Provisioning histogram
+         */
+        public long[] getProvisionHistogram() {
+            final long[] counts = new long[HISTOGRAM_SIZE];
+            final LongAdder[] buckets = histogram;
+            if (null != buckets) {
+                for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                    counts[i] = buckets[i].sum();
+                }
+            }
+            return counts;
+        }
+
+        @Override
+        public String toString() {
+            final long n = getProvisions();
+            return "lookups=" + getLookups() + ", cacheHits=" + getCacheHits() + ", qualifierRejects="
+                    + getQualifierRejects() + ", implicitFallbacks=" + getImplicitFallbacks() + ", provisions=" + n
+                    + ", meanProvisionNanos=" + (n > 0 ? getProvisionNanos() / n : 0);
+        }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        void provisioned(final long nanos) {
+            final long elapsed = Math.max(nanos, 0);
+            provisions.increment();
+            provisionNanos.add(elapsed);
+            histogram()[HISTOGRAM_SIZE - Long.numberOfLeadingZeros(elapsed)].increment();
+        }
+
+        private LongAdder[] histogram() {
+            LongAdder[] buckets = histogram;
+            if (null == buckets) {
+                synchronized (this) {
+                    buckets = histogram;
+                    if (null == buckets) {
+                        buckets = new LongAdder[HISTOGRAM_SIZE];
+                        for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                            buckets[i] = new LongAdder();
+                        }
+                        histogram = buckets;
+                    }
+                }
+            }
+            return buckets;
+        }
+    }
+}
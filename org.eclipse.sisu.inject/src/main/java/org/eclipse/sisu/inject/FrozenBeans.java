@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.Scopes;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.eclipse.sisu.BeanEntry;
+
+/**
+ * Pre-resolved snapshot of {@link LocatedBeans}; remembers the qualified {@link BeanEntry}s in ranked order.
+ * <p>
+ * Entries for singleton bindings are shared by every lookup. Unscoped entries remember their value, so each lookup
+ * {@link #iterator(LocatedBeans) iterates} over its own entries in their place, same as a thawed locator.
+ *
+ * @see DefaultBeanLocator#freeze()
+ */
+final class FrozenBeans<Q extends Annotation, T> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final BeanEntry<Q, T>[] beans;
+
+    private final RankedBindings<T> explicitBindings;
+
+    private final RankedSequence.Content content;
+
+    private final Object token;
+
+    // marks entries that each lookup must replace with its own; null if every entry can be shared
+    private final boolean[] unscoped;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    FrozenBeans(final LocatedBeans<Q, T> locatedBeans, final Object token) {
+        explicitBindings = locatedBeans.explicitBindings;
+        this.token = token;
+
+        RankedSequence.Content snapshot;
+        BeanEntry<Q, T>[] resolved;
+        do {
+            // the first pass may subscribe pending publishers, so repeat until the bindings settle
+            snapshot = explicitBindings.bindings.content;
+            resolved = resolve(locatedBeans);
+        } while (snapshot != explicitBindings.bindings.content);
+
+        content = snapshot;
+        beans = resolved;
+
+        boolean[] marks = null;
+        for (int i = 0; i < resolved.length; i++) {
+            if (!Scopes.isSingleton(((LazyBeanEntry<Q, T>) resolved[i]).binding)) {
+                if (null == marks) {
+                    marks = new boolean[resolved.length];
+                }
+                marks[i] = true;
+            }
+        }
+        unscoped = marks;
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Iterates over this snapshot for a single lookup; unscoped entries are replaced by the lookup's own entries.
+     *
+     * @param lookup The located beans for the lookup
+     * @return Iterator over the snapshot
+     */
+    Iterator<BeanEntry<Q, T>> iterator(final LocatedBeans<Q, T> lookup) {
+        return new Itr(lookup);
+    }
+
+    /**
+     * @param currentToken The locator's current frozen token
+     * @return {@code true} if the locator and its bindings are unchanged since the snapshot; otherwise {@code false}
+     */
+    boolean isCurrent(final Object currentToken) {
+        return token == currentToken
+                && content == explicitBindings.bindings.content
+                && explicitBindings.pendingPublishers.isEmpty();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static <Q extends Annotation, T> BeanEntry<Q, T>[] resolve(final LocatedBeans<Q, T> locatedBeans) {
+        final List<BeanEntry<Q, T>> resolved = new ArrayList<>();
+        for (final BeanEntry<Q, T> bean : locatedBeans) {
+            resolved.add(bean);
+        }
+        @SuppressWarnings("unchecked")
+        final BeanEntry<Q, T>[] array = (BeanEntry<Q, T>[]) new BeanEntry<?, ?>[resolved.size()];
+        return resolved.toArray(array);
+    }
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * {@link BeanEntry} iterator over the pre-resolved snapshot.
+     */
+    final class Itr implements Iterator<BeanEntry<Q, T>> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final LocatedBeans<Q, T> lookup;
+
+        private int index;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Itr(final LocatedBeans<Q, T> lookup) {
+            this.lookup = lookup;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+            return index < beans.length;
+        }
+
+        @Override
+        public BeanEntry<Q, T> next() {
+            if (index < beans.length) {
+                final int i = index++;
+                return null != unscoped && unscoped[i] ? lookup.localBean((LazyBeanEntry<Q, T>) beans[i]) : beans[i];
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -18,18 +18,30 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.ProvidedBy;
 import com.google.inject.TypeLiteral;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentMap;
 import org.eclipse.sisu.Hidden;
 
 /**
  * Source of "implicit" bindings; includes @{@link ImplementedBy}, @{@link ProvidedBy}, and concrete types.
  */
 final class ImplicitBindings {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Object NO_BINDING = new Object();
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
 
     private final Iterable<BindingPublisher> publishers;
 
+    // remembers hits and misses per raw type; replaced whenever the publishers change
+    // hits are weakly held so the memo never pins a binding, its type, or the type's class loader
+    private volatile ConcurrentMap<Class<?>, Object> memo = Weak.concurrentKeys(); // NOSONAR
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -42,10 +54,87 @@ final class ImplicitBindings {
     // Public methods
     // ----------------------------------------------------------------------
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public <T> Binding<T> get(final TypeLiteral<T> type) {
-        // first round: check for any re-written implicit bindings
+        return lookup(type, null, null);
+    }
+
+    /**
+     * Looks for an implicit binding for the type of the given key, recording any fall back to just-in-time bindings
+     * against that key.
+     * <p>
+     * Results for non-generic types are remembered until {@link #clear()} is called.
+     *
+     * @param key The located key
+     * @param metrics Optional metrics
+     * @return Implicit binding; {@code null} if no binding was found
+     */
+    public <T> Binding<T> get(final Key<T> key, final BeanLocatorMetrics metrics) {
+        return lookup(key.getTypeLiteral(), key, metrics);
+    }
 
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Forgets any remembered results; must be called whenever the publishers change.
+     */
+    void clear() {
+        memo = Weak.concurrentKeys();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private <T> Binding<T> lookup(final TypeLiteral<T> type, final Key<T> key, final BeanLocatorMetrics metrics) {
+        final Class<? super T> clazz = type.getRawType();
+        if (clazz != type.getType()) {
+            return resolve(type, key, metrics); // generic type, not worth remembering
+        }
+        final ConcurrentMap<Class<?>, Object> currentMemo = memo;
+        final Object result = currentMemo.get(clazz);
+        if (NO_BINDING == result) {
+            return null;
+        }
+        if (null != result) {
+            final MemoizedBinding memoized = (MemoizedBinding) result;
+            final Binding<T> binding = (Binding<T>) memoized.get();
+            if (null != binding) {
+                if (null != metrics && memoized.justInTime) {
+                    metrics.implicitFallback(key);
+                }
+                return binding;
+            }
+        }
+        Binding<T> binding = resolveImplicit(type);
+        if (null != binding) {
+            currentMemo.put(clazz, new MemoizedBinding(binding, false)); // stale results die with the old memo
+        } else if (null != (binding = resolveJustInTime(type))) {
+            currentMemo.put(clazz, new MemoizedBinding(binding, true));
+            if (null != metrics) {
+                metrics.implicitFallback(key);
+            }
+        } else {
+            currentMemo.put(clazz, NO_BINDING);
+        }
+        return binding;
+    }
+
+    private <T> Binding<T> resolve(final TypeLiteral<T> type, final Key<T> key, final BeanLocatorMetrics metrics) {
+        Binding<T> binding = resolveImplicit(type);
+        if (null == binding && null != (binding = resolveJustInTime(type)) && null != metrics) {
+            metrics.implicitFallback(key);
+        }
+        return binding;
+    }
+
+    /**
+     * First round: check for any re-written implicit bindings.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> Binding<T> resolveImplicit(final TypeLiteral<T> type) {
         final Key implicitKey = TypeArguments.implicitKey(type.getRawType());
         for (final BindingPublisher p : publishers) {
             final Injector injector = p.adapt(Injector.class);
@@ -57,9 +146,14 @@ final class ImplicitBindings {
                 }
             }
         }
+        return null;
+    }
 
-        // second round: fall back to just-in-time binding lookup
-
+    /**
+     * Second round: fall back to just-in-time binding lookup.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> Binding<T> resolveJustInTime(final TypeLiteral<T> type) {
         final Key justInTimeKey = Key.get(type);
         for (final BindingPublisher p : publishers) {
             final Injector injector = p.adapt(Injector.class);
@@ -77,4 +171,20 @@ final class ImplicitBindings {
         }
         return null;
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Weakly remembered implicit binding; the binding is kept alive by its injector.
+     */
+    private static final class MemoizedBinding extends WeakReference<Binding<?>> {
+        final boolean justInTime;
+
+        MemoizedBinding(final Binding<?> binding, final boolean justInTime) {
+            super(binding);
+            this.justInTime = justInTime;
+        }
+    }
 }
@@ -19,8 +19,11 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import org.eclipse.sisu.Hidden;
 
@@ -39,6 +42,8 @@ public final class InjectorBindings implements BindingPublisher {
 
     private static final RankingFunction DEFAULT_RANKING_FUNCTION = new DefaultRankingFunction();
 
+    private static final Key<BeanLocatorMetrics> BEAN_LOCATOR_METRICS_KEY = Key.get(BeanLocatorMetrics.class);
+
     private static final TypeLiteral<Object> OBJECT_TYPE_LITERAL = TypeLiteral.get(Object.class);
 
     private static final Binding<?>[] NO_BINDINGS = {};
@@ -53,6 +58,9 @@ public final class InjectorBindings implements BindingPublisher {
 
     private volatile Binding<?>[] wildcards; // NOSONAR
 
+    // maps each supertype of a wildcard implementation to the wildcard bindings it covers, in binding order
+    private Map<Class<?>, List<Binding<?>>> wildcardIndex; // NOSONAR see 'happens-before' in getWildcardBindings
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -101,6 +109,11 @@ public final class InjectorBindings implements BindingPublisher {
         return null != binding ? binding.getProvider().get() : DEFAULT_RANKING_FUNCTION;
     }
 
+    public static BeanLocatorMetrics findBeanLocatorMetrics(final Injector injector) {
+        final Binding<BeanLocatorMetrics> binding = findExplicitBinding(injector, BEAN_LOCATOR_METRICS_KEY);
+        return null != binding ? binding.getProvider().get() : null;
+    }
+
     @Override
     public <T> void subscribe(final BindingSubscriber<T> subscriber) {
         final TypeLiteral<T> type = subscriber.type();
@@ -216,11 +229,24 @@ public final class InjectorBindings implements BindingPublisher {
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     private <T> void publishWildcardMatches(final TypeLiteral<T> type, final BindingSubscriber<T> subscriber) {
-        final boolean untyped = type.getRawType() == Object.class;
-        for (final Binding binding : getWildcardBindings()) {
-            if (untyped || isAssignableFrom(type, binding)) {
+        final Binding<?>[] visible = getWildcardBindings();
+        final Class<?> clazz = type.getRawType();
+        if (clazz == Object.class) {
+            for (final Binding binding : visible) {
                 subscriber.add(binding, function.rank(binding));
             }
+        } else if (visible.length > 0) {
+            final List<Binding<?>> candidates = wildcardIndex.get(clazz);
+            if (null != candidates) {
+                // candidates are known to be raw assignable, only need to check generic type arguments
+                final boolean generic = clazz != type.getType();
+                for (int i = 0, size = candidates.size(); i < size; i++) {
+                    final Binding binding = candidates.get(i);
+                    if (!generic || isAssignableFrom(type, binding)) {
+                        subscriber.add(binding, function.rank(binding));
+                    }
+                }
+            }
         }
     }
 
@@ -236,10 +262,48 @@ public final class InjectorBindings implements BindingPublisher {
                             visible.add(binding);
                         }
                     }
+                    wildcardIndex = indexWildcards(visible);
                     wildcards = visible.isEmpty() ? NO_BINDINGS : visible.toArray(new Binding[visible.size()]);
                 }
             }
         }
         return wildcards;
     }
+
+    /**
+     * Indexes wildcard bindings by every supertype of their implementation, so subscribers can find them directly.
+     *
+     * @param bindings The wildcard bindings
+     * @return Index of wildcard bindings
+     */
+    private static Map<Class<?>, List<Binding<?>>> indexWildcards(final List<Binding<?>> bindings) {
+        final Map<Class<?>, List<Binding<?>>> index = new HashMap<>();
+        final Set<Class<?>> supertypes = new HashSet<>();
+        for (int i = 0, size = bindings.size(); i < size; i++) {
+            final Binding<?> binding = bindings.get(i);
+            final Class<?> implementation = Implementations.find(binding);
+            if (null != implementation) {
+                supertypes.clear();
+                collectSupertypes(implementation, supertypes);
+                // exact implementation is reported by publishExactMatches, see isAssignableFrom
+                supertypes.remove(implementation);
+                for (final Class<?> supertype : supertypes) {
+                    List<Binding<?>> matches = index.get(supertype);
+                    if (null == matches) {
+                        index.put(supertype, matches = new ArrayList<>(4));
+                    }
+                    matches.add(binding);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static void collectSupertypes(final Class<?> clazz, final Set<Class<?>> supertypes) {
+        for (Class<?> c = clazz; null != c && supertypes.add(c); c = c.getSuperclass()) {
+            for (final Class<?> i : c.getInterfaces()) {
+                collectSupertypes(i, supertypes);
+            }
+        }
+    }
 }
@@ -13,6 +13,7 @@
 package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
+import com.google.inject.Key;
 import com.google.inject.Scopes;
 import java.lang.annotation.Annotation;
 import javax.inject.Provider;
@@ -39,8 +40,17 @@ final class LazyBeanEntry<Q extends Annotation, T> implements BeanEntry<Q, T> {
     // Constructors
     // ----------------------------------------------------------------------
 
-    @SuppressWarnings("unchecked")
     LazyBeanEntry(final Q qualifier, final Binding<T> binding, final int rank) {
+        this(qualifier, binding, rank, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    LazyBeanEntry(
+            final Q qualifier,
+            final Binding<T> binding,
+            final int rank,
+            final Key<T> key,
+            final BeanLocatorMetrics metrics) {
         if (null != qualifier && com.google.inject.name.Named.class == qualifier.annotationType()) {
             this.qualifier = (Q) new JsrNamed((com.google.inject.name.Named) qualifier);
         } else {
@@ -50,11 +60,8 @@ final class LazyBeanEntry<Q extends Annotation, T> implements BeanEntry<Q, T> {
         this.binding = binding;
         this.rank = rank;
 
-        if (Scopes.isSingleton(binding)) {
-            this.lazyValue = binding.getProvider();
-        } else {
-            this.lazyValue = Guice4.lazy(binding);
-        }
+        final Provider<T> provider = Scopes.isSingleton(binding) ? binding.getProvider() : Guice4.lazy(binding);
+        this.lazyValue = null != metrics ? new TimedProvider<>(provider, key, metrics) : provider;
     }
 
     // ----------------------------------------------------------------------
@@ -119,6 +126,57 @@ final class LazyBeanEntry<Q extends Annotation, T> implements BeanEntry<Q, T> {
     // Implementation types
     // ----------------------------------------------------------------------
 
+    /**
+     * {@link Provider} that records how long it takes the underlying provider to create its value.
+     * <p>
+     * Only the first value is timed; later calls are served from the scope or the entry's remembered value.
+     */
+    private static final class TimedProvider<T> implements Provider<T> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Provider<T> provider;
+
+        private final Key<T> key;
+
+        private final BeanLocatorMetrics metrics;
+
+        private volatile boolean provisioned;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        TimedProvider(final Provider<T> provider, final Key<T> key, final BeanLocatorMetrics metrics) {
+            this.provider = provider;
+            this.key = key;
+            this.metrics = metrics;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public T get() {
+            if (provisioned) {
+                return provider.get();
+            }
+            final long start = System.nanoTime();
+            final T value = provider.get();
+            final long nanos = System.nanoTime() - start;
+            synchronized (this) {
+                if (provisioned) {
+                    return value; // another thread got there first
+                }
+                provisioned = true;
+            }
+            metrics.provisioned(key, nanos);
+            return value;
+        }
+    }
+
     /**
      * Implementation of @{@link javax.inject.Named} that can also act like @{@link com.google.inject.name.Named}.
      */
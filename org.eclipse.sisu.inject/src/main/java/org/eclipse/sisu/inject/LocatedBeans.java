@@ -14,6 +14,8 @@ package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
 import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.name.Named;
 import java.lang.annotation.Annotation;
 import java.util.Iterator;
 import java.util.Map;
@@ -25,7 +27,13 @@ import org.eclipse.sisu.BeanEntry;
  *
  * @see BeanLocator#locate(Key)
  */
-final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<Q, T>> {
+final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<Q, T>>, Versioned {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Object NO_BINDINGS = new Object();
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -38,7 +46,23 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
 
     final QualifyingStrategy strategy;
 
-    final BeanCache<Q, T> beans;
+    // entries for singleton bindings, shared by every sequence located for the same key
+    final BeanCache<Q, T> sharedBeans;
+
+    // keeps the shared entries reachable for as long as this sequence is in use
+    private final LocatedBeans<Q, T> canonical;
+
+    // entries for other bindings, local to this sequence and created on demand
+    volatile BeanCache<Q, T> beans; // NOSONAR
+
+    // optional instrumentation for this sequence
+    private final BeanLocatorMetrics metrics;
+
+    // serves this sequence from pre-resolved snapshots while it is frozen
+    private final DefaultBeanLocator locator;
+
+    // pre-resolved snapshot, only set on the canonical sequence while the locator is frozen
+    volatile FrozenBeans<Q, T> frozen; // NOSONAR
 
     // ----------------------------------------------------------------------
     // Constructors
@@ -51,7 +75,24 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
         this.implicitBindings = implicitBindings;
 
         strategy = QualifyingStrategy.selectFor(key);
-        beans = explicitBindings.newBeanCache();
+        sharedBeans = explicitBindings.newBeanCache();
+        canonical = this;
+        metrics = null;
+        locator = null;
+    }
+
+    private LocatedBeans(
+            final LocatedBeans<Q, T> canonical, final BeanLocatorMetrics metrics, final DefaultBeanLocator locator) {
+        key = canonical.key;
+
+        explicitBindings = canonical.explicitBindings;
+        implicitBindings = canonical.implicitBindings;
+
+        strategy = canonical.strategy;
+        sharedBeans = canonical.sharedBeans;
+        this.canonical = canonical;
+        this.metrics = metrics;
+        this.locator = locator;
     }
 
     // ----------------------------------------------------------------------
@@ -60,9 +101,110 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
 
     @Override
     public Iterator<BeanEntry<Q, T>> iterator() {
+        final Object token = null != locator ? locator.frozenToken() : null;
+        if (null != token) {
+            return frozenBeans(token).iterator(this);
+        }
+        if (null != canonical.frozen) {
+            canonical.frozen = null; // discard snapshot left over from the last freeze
+        }
         return new Itr();
     }
 
+    @Override
+    public Object version() {
+        if (!explicitBindings.pendingPublishers.isEmpty()) {
+            return null; // pending publishers could still add bindings
+        }
+        final RankedSequence.Content content = explicitBindings.bindings.content;
+        if (null != content && content.size > 0) {
+            return content;
+        }
+        // implicit bindings are only consulted when there are no explicit bindings, and they aren't versioned
+        return null == implicitBindings ? NO_BINDINGS : null;
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Creates a new sequence that shares singleton entries with this sequence, but has its own local entries.
+     * <p>
+     * Unscoped entries remember their value, so they must never be shared between separate lookups.
+     *
+     * @return Sequence of located beans
+     */
+    LocatedBeans<Q, T> newView() {
+        return new LocatedBeans<>(canonical, null, null);
+    }
+
+    /**
+     * Creates a new sequence like {@link #newView()} that records events against the given metrics.
+     *
+     * @param metrics The metrics; {@code null} to disable instrumentation
+     * @return Sequence of located beans
+     */
+    LocatedBeans<Q, T> newView(final BeanLocatorMetrics metrics) {
+        return new LocatedBeans<>(canonical, metrics, null);
+    }
+
+    /**
+     * Creates a new sequence like {@link #newView(BeanLocatorMetrics)} that is served from pre-resolved snapshots
+     * whenever the given locator is frozen, and resolved on demand otherwise.
+     *
+     * @param metrics The metrics; {@code null} to disable instrumentation
+     * @param locator The locator
+     * @return Sequence of located beans
+     */
+    LocatedBeans<Q, T> newView(final BeanLocatorMetrics metrics, final DefaultBeanLocator locator) {
+        return new LocatedBeans<>(canonical, metrics, locator);
+    }
+
+    /**
+     * Finds or creates this sequence's own entry for the same unscoped binding as the given entry.
+     *
+     * @param bean The bean entry
+     * @return Local bean entry
+     */
+    BeanEntry<Q, T> localBean(final LazyBeanEntry<Q, T> bean) {
+        return beansFor(bean.binding).create(bean.getKey(), bean.binding, bean.getRank(), key, metrics);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the pre-resolved beans for this sequence, resolving a new snapshot if bindings changed since the last.
+     *
+     * @param token The locator's current frozen token
+     * @return Pre-resolved beans
+     */
+    private FrozenBeans<Q, T> frozenBeans(final Object token) {
+        FrozenBeans<Q, T> snapshot = canonical.frozen;
+        if (null == snapshot || !snapshot.isCurrent(token)) {
+            canonical.frozen = snapshot = new FrozenBeans<>(canonical.newView(metrics), token);
+        }
+        return snapshot;
+    }
+
+    private BeanCache<Q, T> beansFor(final Binding<T> binding) {
+        if (Scopes.isSingleton(binding)) {
+            return sharedBeans;
+        }
+        BeanCache<Q, T> localBeans = beans;
+        if (null == localBeans) {
+            synchronized (this) {
+                localBeans = beans;
+                if (null == localBeans) {
+                    beans = localBeans = explicitBindings.newBeanCache();
+                }
+            }
+        }
+        return localBeans;
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -75,9 +217,13 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
         // Implementation fields
         // ----------------------------------------------------------------------
 
-        private final RankedBindings<T>.Itr itr = explicitBindings.iterator();
+        private final RankedBindings<T>.Itr itr = QualifyingStrategy.NAMED_WITH_ATTRIBUTES == strategy
+                ? explicitBindings.iterator(((Named) key.getAnnotation()).value())
+                : explicitBindings.iterator();
+
+        private final Map<Binding<T>, BeanEntry<Q, T>> sharedReadCache = sharedBeans.flush();
 
-        private final Map<Binding<T>, BeanEntry<Q, T>> readCache = beans.flush();
+        private final Map<Binding<T>, BeanEntry<Q, T>> readCache = null != beans ? beans.flush() : null;
 
         private boolean checkImplicitBindings = implicitBindings != null;
 
@@ -95,20 +241,33 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
             }
             while (itr.hasNext()) {
                 final Binding<T> binding = itr.next();
+                if (null != sharedReadCache && null != (nextBean = sharedReadCache.get(binding))) {
+                    if (null != metrics) {
+                        metrics.cacheHit(key);
+                    }
+                    return true;
+                }
                 if (null != readCache && null != (nextBean = readCache.get(binding))) {
+                    if (null != metrics) {
+                        metrics.cacheHit(key);
+                    }
                     return true;
                 }
                 final Q qualifier = (Q) strategy.qualifies(key, binding);
                 if (null != qualifier) {
-                    nextBean = beans.create(qualifier, binding, itr.rank());
+                    nextBean = beansFor(binding).create(qualifier, binding, itr.rank(), key, metrics);
                     return true;
                 }
+                if (null != metrics) {
+                    metrics.qualifierReject(key);
+                }
             }
             if (checkImplicitBindings) {
                 // last-chance, see if we can locate a valid implicit binding somewhere
-                final Binding<T> binding = implicitBindings.get(key.getTypeLiteral());
+                final Binding<T> binding = implicitBindings.get(key, metrics);
                 if (null != binding) {
-                    nextBean = beans.create((Q) QualifyingStrategy.DEFAULT_QUALIFIER, binding, Integer.MIN_VALUE);
+                    nextBean = beansFor(binding)
+                            .create((Q) QualifyingStrategy.DEFAULT_QUALIFIER, binding, Integer.MIN_VALUE, key, metrics);
                     return true;
                 }
             }
@@ -14,6 +14,7 @@ package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
 import com.google.inject.ImplementedBy;
+import java.util.Collection;
 
 /**
  * Mutable {@link BeanLocator} that finds and tracks bindings across zero or more {@link BindingPublisher}s.
@@ -36,6 +37,34 @@ public interface MutableBeanLocator extends BeanLocator {
      */
     boolean remove(BindingPublisher publisher);
 
+    /**
+     * Adds the given ranked {@link BindingPublisher}s as a batch and distributes their {@link Binding}s.
+     *
+     * @param publishers The new publishers
+     * @return {@code true} if any publisher was added; otherwise {@code false}
+     */
+    default boolean addAll(final Collection<? extends BindingPublisher> publishers) {
+        boolean added = false;
+        for (final BindingPublisher p : publishers) {
+            added |= add(p);
+        }
+        return added;
+    }
+
+    /**
+     * Removes the given {@link BindingPublisher}s and their {@link Binding}s as a batch.
+     *
+     * @param publishers The old publishers
+     * @return {@code true} if any publisher was removed; otherwise {@code false}
+     */
+    default boolean removeAll(final Collection<? extends BindingPublisher> publishers) {
+        boolean removed = false;
+        for (final BindingPublisher p : publishers) {
+            removed |= remove(p);
+        }
+        return removed;
+    }
+
     /**
      * Snapshot of currently registered {@link BindingPublisher}s.
      *
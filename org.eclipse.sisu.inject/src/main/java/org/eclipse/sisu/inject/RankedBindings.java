@@ -14,14 +14,25 @@ package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
 import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import com.google.inject.spi.ConstructorBinding;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ordered sequence of {@link Binding}s of a given type; subscribes to {@link BindingPublisher}s on demand.
+ * <p>
+ * Also maintains a secondary index of named {@link Binding}s, so named searches avoid scanning the entire sequence.
  */
 final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber<T> {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -34,6 +45,12 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
 
     final Collection<BeanCache<?, T>> cachedBeans = Weak.elements();
 
+    // secondary index of named bindings, created on demand
+    volatile Map<String, RankedSequence<Binding<T>>> namedBindings;
+
+    // publishers last seen by sync(), guarded by pendingPublishers
+    private RankedSequence.Content syncedPublishers;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -41,6 +58,7 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
     RankedBindings(final TypeLiteral<T> type, final RankedSequence<BindingPublisher> publishers) {
         this.type = type;
         this.pendingPublishers = new RankedSequence<>(publishers);
+        this.syncedPublishers = pendingPublishers.content;
     }
 
     // ----------------------------------------------------------------------
@@ -55,11 +73,21 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
     @Override
     public void add(final Binding<T> binding, final int rank) {
         bindings.insert(binding, rank);
+        final String name = qualifiedName(binding);
+        if (null != name) {
+            index(name, binding, rank);
+        }
+        final String alias = aliasName(binding);
+        if (null != alias && !alias.equals(name)) {
+            index(alias, binding, rank);
+        }
     }
 
     @Override
     public void remove(final Binding<T> binding) {
         if (bindings.removeThis(binding)) {
+            unindex(qualifiedName(binding), binding);
+            unindex(aliasName(binding), binding);
             synchronized (cachedBeans) {
                 for (final BeanCache<?, T> beans : cachedBeans) {
                     beans.remove(binding);
@@ -75,13 +103,23 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
 
     @Override
     public Itr iterator() {
-        return new Itr();
+        return new Itr(null);
     }
 
     // ----------------------------------------------------------------------
     // Local methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Iterates over the subset of {@link Binding}s that could qualify against the given name.
+     *
+     * @param name The binding name
+     * @return Iterator over named bindings
+     */
+    Itr iterator(final String name) {
+        return new Itr(name);
+    }
+
     <Q extends Annotation> BeanCache<Q, T> newBeanCache() {
         final BeanCache<Q, T> beans = new BeanCache<>();
         synchronized (cachedBeans) {
@@ -109,6 +147,121 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         }
     }
 
+    /**
+     * Brings the publishers known to these bindings up-to-date with the given sequence of publishers.
+     * <p>
+     * Only the difference since the last call is applied, so calling this repeatedly has no further effect.
+     *
+     * @param publishers The current publishers
+     */
+    void sync(final RankedSequence<BindingPublisher> publishers) {
+        synchronized (pendingPublishers) {
+            final RankedSequence.Content oldContent = syncedPublishers;
+            final RankedSequence.Content newContent = publishers.content;
+            if (oldContent == newContent) {
+                return;
+            }
+            // both are ordered by uid, so we can compare them in a single pass; apply removals before additions
+            RankedSequence.Cursor o = new RankedSequence.Cursor(oldContent);
+            RankedSequence.Cursor n = new RankedSequence.Cursor(newContent);
+            while (o.hasNext()) {
+                if (!n.hasNext() || o.peekUID() < n.peekUID()) {
+                    remove((BindingPublisher) o.next());
+                } else if (o.peekUID() > n.peekUID()) {
+                    n.next();
+                } else {
+                    final Object oldObj = o.next();
+                    if (oldObj != n.next()) {
+                        remove((BindingPublisher) oldObj);
+                    }
+                }
+            }
+            o = new RankedSequence.Cursor(oldContent);
+            n = new RankedSequence.Cursor(newContent);
+            while (n.hasNext()) {
+                if (!o.hasNext() || n.peekUID() < o.peekUID()) {
+                    final long uid = n.peekUID();
+                    add((BindingPublisher) n.next(), RankedSequence.uid2rank(uid));
+                } else if (n.peekUID() > o.peekUID()) {
+                    o.next();
+                } else {
+                    final long uid = n.peekUID();
+                    final Object newObj = n.next();
+                    if (o.next() != newObj) {
+                        add((BindingPublisher) newObj, RankedSequence.uid2rank(uid));
+                    }
+                }
+            }
+            syncedPublishers = newContent;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Finds the sequence of {@link Binding}s indexed under the given name.
+     *
+     * @param name The binding name
+     * @return Named bindings; {@code null} if they don't exist
+     */
+    RankedSequence<Binding<T>> namedSequence(final String name) {
+        final Map<String, RankedSequence<Binding<T>>> index = namedBindings;
+        return null != index ? index.get(name) : null;
+    }
+
+    private void index(final String name, final Binding<T> binding, final int rank) {
+        Map<String, RankedSequence<Binding<T>>> index = namedBindings;
+        if (null == index) {
+            synchronized (this) {
+                if (null == (index = namedBindings)) {
+                    namedBindings = index = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        // atomic per name, so the sequence can't be dropped by a concurrent removal while we insert into it
+        index.compute(name, (k, sequence) -> {
+            final RankedSequence<Binding<T>> namedSequence = null != sequence ? sequence : new RankedSequence<>();
+            namedSequence.insert(binding, rank);
+            return namedSequence;
+        });
+    }
+
+    private void unindex(final String name, final Binding<T> binding) {
+        final Map<String, RankedSequence<Binding<T>>> index = null != name ? namedBindings : null;
+        if (null != index) {
+            // drop the sequence once its last binding goes, so names from old publishers don't accumulate
+            index.computeIfPresent(name, (k, sequence) -> {
+                sequence.removeThis(binding);
+                return sequence.isEmpty() ? null : sequence;
+            });
+        }
+    }
+
+    /**
+     * @return Name of the binding's qualifier; {@code null} if the binding isn't named
+     */
+    static String qualifiedName(final Binding<?> binding) {
+        final Annotation qualifier = QualifyingStrategy.qualify(binding.getKey());
+        return qualifier instanceof Named ? ((Named) qualifier).value() : null;
+    }
+
+    /**
+     * @return Name of the {@code @Named} alias on an untargeted constructor binding; otherwise {@code null}
+     * @see QualifyingStrategy#NAMED_WITH_ATTRIBUTES
+     */
+    static String aliasName(final Binding<?> binding) {
+        if (binding instanceof ConstructorBinding<?> && null == binding.getKey().getAnnotationType()) {
+            final javax.inject.Named alias =
+                    binding.getKey().getTypeLiteral().getRawType().getAnnotation(javax.inject.Named.class);
+            if (null != alias) {
+                return alias.value();
+            }
+        }
+        return null;
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -121,7 +274,22 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         // Implementation fields
         // ----------------------------------------------------------------------
 
-        private final RankedSequence<Binding<T>>.Itr itr = bindings.iterator();
+        private final String name;
+
+        private RankedSequence<Binding<T>> sequence;
+
+        private RankedSequence<Binding<T>>.Itr itr;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Itr(final String name) {
+            this.name = name;
+            if (null == name) {
+                itr = bindings.iterator();
+            }
+        }
 
         // ----------------------------------------------------------------------
         // Public methods
@@ -131,7 +299,7 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         public boolean hasNext() {
             // apply any publishers that could add bindings before the current position
             BindingPublisher publisher = pendingPublishers.peek();
-            while (null != publisher && !itr.hasNext(publisher.maxBindingRank())) {
+            while (null != publisher && !hasNext(publisher.maxBindingRank())) {
                 synchronized (publisher) {
                     // check in case subscribed by another thread
                     if (publisher == pendingPublishers.peek()) {
@@ -142,11 +310,14 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
                 }
                 publisher = pendingPublishers.peek();
             }
-            return itr.hasNext();
+            return null != sequenceItr() && itr.hasNext();
         }
 
         @Override
         public Binding<T> next() {
+            if (null == sequenceItr()) {
+                throw new NoSuchElementException();
+            }
             return itr.next();
         }
 
@@ -158,5 +329,28 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         public void remove() {
             throw new UnsupportedOperationException();
         }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        private boolean hasNext(final int rank) {
+            return null != sequenceItr() && itr.hasNext(rank);
+        }
+
+        /**
+         * @return Iterator over the underlying sequence; {@code null} if no such named sequence exists yet
+         */
+        private RankedSequence<Binding<T>>.Itr sequenceItr() {
+            // empty named sequences are dropped from the index, so look for a replacement under the same name
+            if (null != name && (null == itr || sequence.isEmpty())) {
+                final RankedSequence<Binding<T>> namedSequence = namedSequence(name);
+                if (null != namedSequence && namedSequence != sequence) {
+                    sequence = namedSequence;
+                    itr = namedSequence.iterator();
+                }
+            }
+            return itr;
+        }
     }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.TypeLiteral;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent open-addressing cache of {@link RankedBindings}, keyed by primitive type id and held by weak references.
+ * <p>
+ * Lookups and insertions never lock; only the occasional resize briefly blocks concurrent insertions.
+ */
+@SuppressWarnings("rawtypes")
+final class RankedBindingsCache {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final int MIN_CAPACITY = 256;
+
+    /**
+     * Marks slots in a table that has been (or is being) replaced.
+     */
+    private static final Object MOVED = new Object();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final ReferenceQueue<RankedBindings> queue = new ReferenceQueue<>();
+
+    private final AtomicInteger usedSlots = new AtomicInteger();
+
+    private final AtomicInteger clearedSlots = new AtomicInteger();
+
+    private volatile AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(MIN_CAPACITY); // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the bindings cached against the given type id and type.
+     *
+     * @param id The type id
+     * @param type The generic type
+     * @return Cached bindings; {@code null} if there are none
+     */
+    public RankedBindings get(final long id, final TypeLiteral type) {
+        final AtomicReferenceArray<Object> tab = table;
+        final int mask = tab.length() - 1;
+        for (int i = indexFor(id) & mask, n = 0; n <= mask; i = i + 1 & mask, n++) {
+            final Object o = tab.get(i);
+            if (null == o || MOVED == o) {
+                return null; // end of probe sequence, or table is being replaced
+            }
+            final RankedBindings bindings = match(o, id, type);
+            if (null != bindings) {
+                return bindings;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the given bindings against the given type id, unless bindings for the same type are already cached.
+     *
+     * @param id The type id
+     * @param bindings The bindings
+     * @return Previously cached bindings; {@code null} if the given bindings were cached
+     */
+    public RankedBindings putIfAbsent(final long id, final RankedBindings bindings) {
+        final TypeLiteral type = bindings.type();
+        Ref ref = null;
+
+        AtomicReferenceArray<Object> tab = table;
+        while (true) {
+            final int mask = tab.length() - 1;
+            boolean moved = false;
+            for (int i = indexFor(id) & mask, n = 0; n <= mask; i = i + 1 & mask, n++) {
+                Object o = tab.get(i);
+                if (null == o) {
+                    if (null == ref) {
+                        ref = new Ref(id, bindings, queue);
+                    }
+                    if (tab.compareAndSet(i, null, ref)) {
+                        if (usedSlots.incrementAndGet() > mask - (mask >>> 2)) {
+                            resize(tab);
+                        }
+                        return null;
+                    }
+                    o = tab.get(i); // lost the race, see who won
+                }
+                if (MOVED == o) {
+                    moved = true;
+                    break;
+                }
+                final RankedBindings existing = match(o, id, type);
+                if (null != existing) {
+                    return existing;
+                }
+            }
+            if (!moved) {
+                resize(tab); // no free slot in the probe sequence
+            }
+            tab = awaitTable();
+        }
+    }
+
+    /**
+     * @return Snapshot of the currently cached bindings
+     */
+    public List<RankedBindings> values() {
+        final AtomicReferenceArray<Object> tab = table;
+        final List<RankedBindings> values = new ArrayList<>();
+        for (int i = 0, length = tab.length(); i < length; i++) {
+            final Object o = tab.get(i);
+            if (o instanceof Ref) {
+                final RankedBindings bindings = ((Ref) o).get();
+                if (null != bindings) {
+                    values.add(bindings);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reclaims slots held by evicted bindings once they make up a significant portion of the cache.
+     */
+    public void compact() {
+        drainQueue();
+        final AtomicReferenceArray<Object> tab = table;
+        if (clearedSlots.get() > tab.length() >>> 2) {
+            resize(tab);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static int indexFor(final long id) {
+        final long h = (id ^ id >>> 32) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+
+    private static RankedBindings match(final Object o, final long id, final TypeLiteral type) {
+        if (o instanceof Ref && ((Ref) o).id == id) {
+            final RankedBindings bindings = ((Ref) o).get();
+            if (null != bindings && type.equals(bindings.type())) {
+                return bindings;
+            }
+        }
+        return null;
+    }
+
+    private void drainQueue() {
+        while (null != queue.poll()) {
+            clearedSlots.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for any ongoing resize to complete before returning the current table.
+     */
+    private synchronized AtomicReferenceArray<Object> awaitTable() {
+        return table;
+    }
+
+    /**
+     * Replaces the given table with a new table containing only its live entries.
+     */
+    private synchronized void resize(final AtomicReferenceArray<Object> oldTable) {
+        if (table != oldTable) {
+            return; // already replaced
+        }
+
+        drainQueue();
+
+        // seal the old table so no more entries can be added to it, while collecting live entries
+        final List<Ref> live = new ArrayList<>();
+        for (int i = 0, length = oldTable.length(); i < length; i++) {
+            Object o;
+            do {
+                o = oldTable.get(i);
+                if (o instanceof Ref && null != ((Ref) o).get()) {
+                    live.add((Ref) o);
+                    break;
+                }
+            } while (!oldTable.compareAndSet(i, o, MOVED));
+        }
+
+        int capacity = MIN_CAPACITY;
+        while (capacity < live.size() << 2) {
+            capacity <<= 1;
+        }
+
+        final AtomicReferenceArray<Object> newTable = new AtomicReferenceArray<>(capacity);
+        final int mask = capacity - 1;
+        for (final Ref ref : live) {
+            int i = indexFor(ref.id) & mask;
+            while (null != newTable.get(i)) {
+                i = i + 1 & mask;
+            }
+            newTable.set(i, ref);
+        }
+
+        usedSlots.set(live.size());
+        clearedSlots.set(0);
+
+        table = newTable;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Weak reference to cached bindings that also records their type id.
+     */
+    private static final class Ref extends WeakReference<RankedBindings> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final long id;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Ref(final long id, final RankedBindings bindings, final ReferenceQueue<RankedBindings> queue) {
+            super(bindings, queue);
+            this.id = id;
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.sisu.inject;
 
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -75,7 +76,7 @@ final class RankedSequence<T> implements Iterable<T> {
     @SuppressWarnings("unchecked")
     public T peek() {
         final Content snapshot = content;
-        return null != snapshot ? (T) snapshot.objs[0] : null;
+        return null != snapshot ? (T) snapshot.first() : null;
     }
 
     public boolean contains(final Object element) {
@@ -99,7 +100,7 @@ final class RankedSequence<T> implements Iterable<T> {
             n = o.remove(index);
         } while (!CONTENT_UPDATER.compareAndSet(this, o, n));
 
-        return (T) o.objs[index];
+        return (T) o.get(index);
     }
 
     public boolean removeThis(final T element) {
@@ -118,7 +119,7 @@ final class RankedSequence<T> implements Iterable<T> {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public Iterable<T> snapshot() {
         final Content snapshot = content;
-        return null != snapshot ? (List) Arrays.asList(snapshot.objs) : Collections.EMPTY_SET;
+        return null != snapshot ? (List) new ContentList(snapshot) : Collections.EMPTY_SET;
     }
 
     public void clear() {
@@ -131,7 +132,7 @@ final class RankedSequence<T> implements Iterable<T> {
 
     public int size() {
         final Content snapshot = content;
-        return null != snapshot ? snapshot.objs.length : 0;
+        return null != snapshot ? snapshot.size : 0;
     }
 
     @Override
@@ -199,15 +200,19 @@ final class RankedSequence<T> implements Iterable<T> {
 
     /**
      * Represents an immutable snapshot of ranked elements.
+     * <p>
+     * Elements are held in a persistent B+tree ordered by UID; changes copy the path from root to leaf, so each insert
+     * or removal only copies a few small arrays regardless of how many elements there are. Small sequences that fit in
+     * a single leaf are laid out exactly like a pair of flat arrays.
      */
     static final class Content {
         // ----------------------------------------------------------------------
         // Implementation fields
         // ----------------------------------------------------------------------
 
-        final Object[] objs;
+        final Node root;
 
-        final long[] uids;
+        final int size;
 
         final int uniq;
 
@@ -216,15 +221,14 @@ final class RankedSequence<T> implements Iterable<T> {
         // ----------------------------------------------------------------------
 
         Content(final Object element, final int rank) {
-            objs = new Object[] {element};
-            uids = new long[] {rank2uid(rank, 0)};
+            root = new Leaf(new Object[] {element}, new long[] {rank2uid(rank, 0)});
+            size = 1;
             uniq = 1;
         }
 
-        Content(final Object[] objs, final long[] uids, final int uniq) // NOSONAR
-                {
-            this.objs = objs;
-            this.uids = uids;
+        Content(final Node root, final int size, final int uniq) {
+            this.root = root;
+            this.size = size;
             this.uniq = uniq;
         }
 
@@ -232,34 +236,183 @@ final class RankedSequence<T> implements Iterable<T> {
         // Public methods
         // ----------------------------------------------------------------------
 
+        public Object first() {
+            Node node = root;
+            while (node instanceof Branch) {
+                node = ((Branch) node).nodes[0];
+            }
+            return ((Leaf) node).objs[0];
+        }
+
+        public Object get(final int index) {
+            return root.get(index);
+        }
+
         public int indexOf(final Object element) {
-            if (null == element) {
-                return indexOfThis(null);
+            return null != element ? root.indexOf(element, false) : root.indexOf(null, true);
+        }
+
+        public int indexOfThis(final Object element) {
+            return root.indexOf(element, true);
+        }
+
+        public Content insert(final Object element, final int rank) {
+            Node newRoot = root.insert(rank2uid(rank, uniq), element);
+            if (newRoot.isOverfull()) {
+                newRoot = new Branch(newRoot.split());
             }
-            for (int i = 0; i < objs.length; i++) {
-                if (element.equals(objs[i])) {
-                    return i;
-                }
+            return new Content(newRoot, size + 1, uniq + 1);
+        }
+
+        public Content remove(final int index) {
+            if (size == 1) {
+                return null;
             }
-            return -1;
+            Node newRoot = root.remove(index);
+            while (newRoot instanceof Branch && ((Branch) newRoot).nodes.length == 1) {
+                newRoot = ((Branch) newRoot).nodes[0]; // collapse redundant levels
+            }
+            return new Content(newRoot, size - 1, uniq);
         }
 
-        public int indexOfThis(final Object element) {
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        /**
+         * Finds the leaf that holds the nearest UID at or after the given UID; this will be the last leaf if the UID
+         * is beyond the end of the sequence.
+         *
+         * @param uid The UID to find
+         * @return Leaf with nearest UID
+         */
+        Leaf leafFor(final long uid) {
+            Node node = root;
+            while (node instanceof Branch) {
+                final Branch branch = (Branch) node;
+                node = branch.nodes[branch.childFor(uid)];
+            }
+            return (Leaf) node;
+        }
+
+        /**
+         * @param leaf The current leaf
+         * @return Leaf that follows the current leaf; {@code null} if this is the last leaf
+         */
+        Leaf nextLeaf(final Leaf leaf) {
+            final long lastUID = leaf.uids[leaf.uids.length - 1];
+            if (lastUID == Long.MAX_VALUE) {
+                return null;
+            }
+            final Leaf next = leafFor(lastUID + 1);
+            return next != leaf ? next : null;
+        }
+    }
+
+    /**
+     * Node in the persistent B+tree of ranked elements.
+     */
+    abstract static class Node {
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        abstract int size();
+
+        abstract long maxUID();
+
+        abstract Object get(int index);
+
+        abstract int indexOf(Object element, boolean identity);
+
+        /**
+         * @return New node with the given element inserted; may be overfull
+         */
+        abstract Node insert(long uid, Object element);
+
+        /**
+         * @return New node with the element at the given index removed; may be underfull
+         */
+        abstract Node remove(int index);
+
+        /**
+         * @return New node with the contents of this node followed by the given node of the same kind; may be overfull
+         */
+        abstract Node merge(Node next);
+
+        abstract boolean isOverfull();
+
+        abstract boolean isUnderfull();
+
+        abstract Node[] split();
+    }
+
+    /**
+     * Sorted run of ranked elements, held in parallel arrays.
+     */
+    static final class Leaf extends Node {
+        // ----------------------------------------------------------------------
+        // Constants
+        // ----------------------------------------------------------------------
+
+        private static final int MAX_SIZE = 64;
+
+        static final int MIN_SIZE = MAX_SIZE / 4;
+
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final Object[] objs;
+
+        final long[] uids;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Leaf(final Object[] objs, final long[] uids) // NOSONAR
+                {
+            this.objs = objs;
+            this.uids = uids;
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        int size() {
+            return objs.length;
+        }
+
+        @Override
+        long maxUID() {
+            return uids[uids.length - 1];
+        }
+
+        @Override
+        Object get(final int index) {
+            return objs[index];
+        }
+
+        @Override
+        int indexOf(final Object element, final boolean identity) {
             for (int i = 0; i < objs.length; i++) {
-                if (element == objs[i]) {
+                if (identity ? element == objs[i] : element.equals(objs[i])) {
                     return i;
                 }
             }
             return -1;
         }
 
-        public Content insert(final Object element, final int rank) {
+        @Override
+        Node insert(final long uid, final Object element) {
             final int size = objs.length + 1;
 
             final Object[] newObjs = new Object[size];
             final long[] newUIDs = new long[size];
 
-            final long uid = rank2uid(rank, uniq);
             final int index = safeBinarySearch(uids, uid);
             if (index > 0) {
                 System.arraycopy(objs, 0, newObjs, 0, index);
@@ -275,14 +428,11 @@ final class RankedSequence<T> implements Iterable<T> {
                 System.arraycopy(uids, index, newUIDs, destPos, len);
             }
 
-            return new Content(newObjs, newUIDs, uniq + 1);
+            return new Leaf(newObjs, newUIDs);
         }
 
-        public Content remove(final int index) {
-            if (objs.length == 1) {
-                return null;
-            }
-
+        @Override
+        Node remove(final int index) {
             final int size = objs.length - 1;
 
             final Object[] newObjs = new Object[size];
@@ -298,7 +448,301 @@ final class RankedSequence<T> implements Iterable<T> {
                 System.arraycopy(uids, srcPos, newUIDs, index, len);
             }
 
-            return new Content(newObjs, newUIDs, uniq);
+            return new Leaf(newObjs, newUIDs);
+        }
+
+        @Override
+        Node merge(final Node next) {
+            final Leaf leaf = (Leaf) next;
+            final int size = objs.length + leaf.objs.length;
+
+            final Object[] newObjs = Arrays.copyOf(objs, size);
+            final long[] newUIDs = Arrays.copyOf(uids, size);
+
+            System.arraycopy(leaf.objs, 0, newObjs, objs.length, leaf.objs.length);
+            System.arraycopy(leaf.uids, 0, newUIDs, uids.length, leaf.uids.length);
+
+            return new Leaf(newObjs, newUIDs);
+        }
+
+        @Override
+        boolean isOverfull() {
+            return objs.length > MAX_SIZE;
+        }
+
+        @Override
+        boolean isUnderfull() {
+            return objs.length < MIN_SIZE;
+        }
+
+        @Override
+        Node[] split() {
+            final int half = objs.length >>> 1;
+            return new Node[] {
+                new Leaf(Arrays.copyOfRange(objs, 0, half), Arrays.copyOfRange(uids, 0, half)),
+                new Leaf(Arrays.copyOfRange(objs, half, objs.length), Arrays.copyOfRange(uids, half, uids.length))
+            };
+        }
+    }
+
+    /**
+     * Inner node that records the size and highest UID of each child node.
+     */
+    static final class Branch extends Node {
+        // ----------------------------------------------------------------------
+        // Constants
+        // ----------------------------------------------------------------------
+
+        private static final int MAX_SIZE = 32;
+
+        static final int MIN_SIZE = MAX_SIZE / 4;
+
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final Node[] nodes;
+
+        final int[] sizes;
+
+        final long[] maxUIDs;
+
+        private final int size;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Branch(final Node[] nodes) {
+            this.nodes = nodes;
+            sizes = new int[nodes.length];
+            maxUIDs = new long[nodes.length];
+            int total = 0;
+            for (int i = 0; i < nodes.length; i++) {
+                total += sizes[i] = nodes[i].size();
+                maxUIDs[i] = nodes[i].maxUID();
+            }
+            size = total;
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        long maxUID() {
+            return maxUIDs[maxUIDs.length - 1];
+        }
+
+        @Override
+        Object get(final int index) {
+            int i = 0, offset = index;
+            while (offset >= sizes[i]) {
+                offset -= sizes[i++];
+            }
+            return nodes[i].get(offset);
+        }
+
+        @Override
+        int indexOf(final Object element, final boolean identity) {
+            for (int i = 0, offset = 0; i < nodes.length; offset += sizes[i++]) {
+                final int index = nodes[i].indexOf(element, identity);
+                if (index >= 0) {
+                    return offset + index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Node insert(final long uid, final Object element) {
+            final int i = childFor(uid);
+            final Node child = nodes[i].insert(uid, element);
+            if (child.isOverfull()) {
+                final Node[] newNodes = new Node[nodes.length + 1];
+                System.arraycopy(nodes, 0, newNodes, 0, i);
+                System.arraycopy(child.split(), 0, newNodes, i, 2);
+                System.arraycopy(nodes, i + 1, newNodes, i + 2, nodes.length - i - 1);
+                return new Branch(newNodes);
+            }
+            return replace(i, child);
+        }
+
+        @Override
+        Node remove(final int index) {
+            int i = 0, offset = index;
+            while (offset >= sizes[i]) {
+                offset -= sizes[i++];
+            }
+            final Node child = nodes[i].remove(offset);
+            if (child.isUnderfull() && nodes.length > 1) {
+                // merge with a neighbour, then split again if that overflows; nodes stay at least a quarter full
+                final int left = i > 0 ? i - 1 : i;
+                final Node merged = left < i ? nodes[left].merge(child) : child.merge(nodes[i + 1]);
+                final Node[] newNodes;
+                if (merged.isOverfull()) {
+                    newNodes = nodes.clone();
+                    System.arraycopy(merged.split(), 0, newNodes, left, 2);
+                } else {
+                    newNodes = new Node[nodes.length - 1];
+                    System.arraycopy(nodes, 0, newNodes, 0, left);
+                    newNodes[left] = merged;
+                    System.arraycopy(nodes, left + 2, newNodes, left + 1, newNodes.length - left - 1);
+                }
+                return new Branch(newNodes);
+            }
+            return replace(i, child);
+        }
+
+        @Override
+        Node merge(final Node next) {
+            final Node[] nextNodes = ((Branch) next).nodes;
+            final Node[] newNodes = Arrays.copyOf(nodes, nodes.length + nextNodes.length);
+            System.arraycopy(nextNodes, 0, newNodes, nodes.length, nextNodes.length);
+            return new Branch(newNodes);
+        }
+
+        @Override
+        boolean isOverfull() {
+            return nodes.length > MAX_SIZE;
+        }
+
+        @Override
+        boolean isUnderfull() {
+            return nodes.length < MIN_SIZE;
+        }
+
+        @Override
+        Node[] split() {
+            final int half = nodes.length >>> 1;
+            return new Node[] {
+                new Branch(Arrays.copyOfRange(nodes, 0, half)),
+                new Branch(Arrays.copyOfRange(nodes, half, nodes.length))
+            };
+        }
+
+        /**
+         * @return Index of the first child whose highest UID is at or after the given UID; otherwise the last child
+         */
+        int childFor(final long uid) {
+            return Math.min(safeBinarySearch(maxUIDs, uid), nodes.length - 1);
+        }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        private Branch replace(final int index, final Node child) {
+            final Node[] newNodes = nodes.clone();
+            newNodes[index] = child;
+            return new Branch(newNodes);
+        }
+    }
+
+    /**
+     * Read-only {@link List} view of an immutable snapshot; shares the snapshot's nodes instead of copying them.
+     */
+    static final class ContentList extends AbstractList<Object> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Content content;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        ContentList(final Content content) {
+            this.content = content;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public Object get(final int index) {
+            if (index < 0 || index >= content.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + content.size);
+            }
+            return content.get(index);
+        }
+
+        @Override
+        public int size() {
+            return content.size;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Cursor(content);
+        }
+    }
+
+    /**
+     * {@link Iterator} over an immutable snapshot that can also report the UID of the next element.
+     */
+    static final class Cursor implements Iterator<Object> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Content content;
+
+        private Leaf leaf;
+
+        private int index;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Cursor(final Content content) {
+            this.content = content;
+            leaf = null != content ? content.leafFor(Long.MIN_VALUE) : null;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+            return null != leaf;
+        }
+
+        @Override
+        public Object next() {
+            if (null == leaf) {
+                throw new NoSuchElementException();
+            }
+            final Object element = leaf.objs[index];
+            if (++index >= leaf.objs.length) {
+                leaf = content.nextLeaf(leaf);
+                index = 0;
+            }
+            return element;
+        }
+
+        /**
+         * @return UID of the element that will be returned by {@link #next()}
+         */
+        public long peekUID() {
+            if (null == leaf) {
+                throw new NoSuchElementException();
+            }
+            return leaf.uids[index];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
         }
     }
 
@@ -312,6 +756,8 @@ final class RankedSequence<T> implements Iterable<T> {
 
         private Content snapshot;
 
+        private Leaf leaf;
+
         private T nextObj;
 
         private long nextUID = Long.MIN_VALUE;
@@ -328,15 +774,9 @@ final class RankedSequence<T> implements Iterable<T> {
             if (null != nextObj) {
                 return true;
             }
-            final Content newSnapshot = content;
-            if (snapshot != newSnapshot) {
-                index = null != newSnapshot ? safeBinarySearch(newSnapshot.uids, nextUID) : -1;
-                snapshot = newSnapshot;
-            }
-            if (index >= 0 && index < snapshot.objs.length) // NOSONAR
-            {
-                nextObj = (T) snapshot.objs[index];
-                nextUID = snapshot.uids[index];
+            if (seek()) {
+                nextObj = (T) leaf.objs[index];
+                nextUID = leaf.uids[index];
                 return true;
             }
             return false;
@@ -349,14 +789,8 @@ final class RankedSequence<T> implements Iterable<T> {
             if (null != nextObj) {
                 return uid2rank(nextUID) >= rank;
             }
-            final Content newSnapshot = content;
-            if (snapshot != newSnapshot) {
-                index = null != newSnapshot ? safeBinarySearch(newSnapshot.uids, nextUID) : -1;
-                snapshot = newSnapshot;
-            }
-            if (index >= 0 && index < snapshot.uids.length) // NOSONAR
-            {
-                return uid2rank(snapshot.uids[index]) >= rank;
+            if (seek()) {
+                return uid2rank(leaf.uids[index]) >= rank;
             }
             return false;
         }
@@ -383,5 +817,32 @@ final class RankedSequence<T> implements Iterable<T> {
         public void remove() {
             throw new UnsupportedOperationException();
         }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        /**
+         * Positions this iterator at the next element in the latest snapshot.
+         *
+         * @return {@code true} if there is a next element; otherwise {@code false}
+         */
+        private boolean seek() {
+            final Content newSnapshot = content;
+            if (snapshot != newSnapshot) {
+                if (null != newSnapshot) {
+                    leaf = newSnapshot.leafFor(nextUID);
+                    index = safeBinarySearch(leaf.uids, nextUID);
+                } else {
+                    leaf = null;
+                }
+                snapshot = newSnapshot;
+            }
+            while (null != leaf && index >= leaf.uids.length) {
+                leaf = snapshot.nextLeaf(leaf);
+                index = 0;
+            }
+            return null != leaf;
+        }
     }
 }
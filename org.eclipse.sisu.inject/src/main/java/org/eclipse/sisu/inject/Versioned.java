@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+/**
+ * Dynamic content, such as a sequence of located beans, that can tell when it has changed.
+ * <p>
+ * Views can compare versions to decide whether a snapshot of the content is still current.
+ */
+public interface Versioned {
+    /**
+     * Returns a token for the current version of the content; compare tokens using {@link Object#equals}.
+     * <p>
+     * Tokens returned before and after a change must not be equal. Returning {@code null} means the version is unknown,
+     * so any snapshot of the content must be treated as out-of-date.
+     *
+     * @return Version token; {@code null} if it is unknown
+     */
+    Object version();
+}
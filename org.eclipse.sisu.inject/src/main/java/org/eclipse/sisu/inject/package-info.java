@@ -47,5 +47,11 @@
  *
  * <pre>
  * bind( RankingFunction.class ).to( MyRankingFunction.class );</pre>
+ *
+ * Lookups are not instrumented by default. To collect per-key lookup and provisioning statistics bind a
+ * {@link org.eclipse.sisu.inject.BeanLocatorMetrics}, such as the {@link org.eclipse.sisu.inject.DefaultBeanLocatorMetrics}:
+ *
+ * <pre>
+ * bind( BeanLocatorMetrics.class ).to( DefaultBeanLocatorMetrics.class );</pre>
  */
 package org.eclipse.sisu.inject;
@@ -15,16 +15,22 @@ package org.eclipse.sisu.space;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
  * Skeleton class that generates a qualified class index.
+ * <p>
+ * Each text table may be accompanied by a binary table of {@link RecordedClass} records, which lets scanning skip
+ * reading the class files of indexed classes.
  */
 abstract class AbstractSisuIndex {
     // ----------------------------------------------------------------------
@@ -37,12 +43,24 @@ abstract class AbstractSisuIndex {
 
     static final String NAMED = "javax.inject.Named";
 
+    /**
+     * Suffix of the table that lists a generated binding module and the classes it binds.
+     */
+    static final String MODULE_SUFFIX = ".module";
+
+    /**
+     * Comment at the top of a text index table that lists the suffixes of the tables written next to it.
+     */
+    static final String TABLES_HEADER = "#sisu-tables:";
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
 
     private final Map<Object, Set<String>> index = new LinkedHashMap<>();
 
+    private final Map<Object, Map<String, RecordedClass>> records = new LinkedHashMap<>();
+
     // ----------------------------------------------------------------------
     // Common methods
     // ----------------------------------------------------------------------
@@ -62,6 +80,36 @@ abstract class AbstractSisuIndex {
         table.add(String.valueOf(clazz));
     }
 
+    /**
+     * Returns the classes currently in the index under the given annotation.
+     *
+     * @param anno The annotation name
+     * @return Sorted class names
+     */
+    final synchronized Set<String> getIndexedClasses(final Object anno) {
+        Set<String> table = index.get(anno);
+        if (null == table) {
+            table = readTable(anno);
+            index.put(anno, table);
+        }
+        return new TreeSet<>(table);
+    }
+
+    /**
+     * Records the header and annotations of a class added to the index.
+     *
+     * @param anno The annotation name
+     * @param clazz The recorded class
+     */
+    final synchronized void addClassRecord(final Object anno, final RecordedClass clazz) {
+        Map<String, RecordedClass> table = records.get(anno);
+        if (null == table) {
+            table = readRecords(anno);
+            records.put(anno, table);
+        }
+        table.put(clazz.getName().replace('/', '.'), clazz);
+    }
+
     /**
      * Writes the current index as a series of tables.
      */
@@ -69,6 +117,19 @@ abstract class AbstractSisuIndex {
         for (final Entry<Object, Set<String>> entry : index.entrySet()) {
             writeTable(entry.getKey(), entry.getValue());
         }
+        for (final Entry<Object, Map<String, RecordedClass>> entry : records.entrySet()) {
+            writeRecords(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Reports whether a generated module table will be written next to the given index table.
+     *
+     * @param name The table name
+     * @return {@code true} if there will be a module table; otherwise {@code false}
+     */
+    boolean hasModuleTable(final Object name) {
+        return false;
     }
 
     // ----------------------------------------------------------------------
@@ -105,6 +166,22 @@ abstract class AbstractSisuIndex {
      */
     protected abstract Writer getWriter(final String path) throws IOException;
 
+    /**
+     * Creates a new binary stream for the given input path.
+     *
+     * @param path The input path
+     * @return The relevant input stream
+     */
+    protected abstract InputStream getInputStream(final String path) throws IOException;
+
+    /**
+     * Creates a new binary stream for the given output path.
+     *
+     * @param path The output path
+     * @return The relevant output stream
+     */
+    protected abstract OutputStream getOutputStream(final String path) throws IOException;
+
     // ----------------------------------------------------------------------
     // Implementation methods
     // ----------------------------------------------------------------------
@@ -120,7 +197,9 @@ abstract class AbstractSisuIndex {
         try {
             try (BufferedReader reader = new BufferedReader(getReader(INDEX_FOLDER + name))) {
                 for (String line = reader.readLine(); line != null; line = reader.readLine()) {
-                    table.add(line);
+                    if (!line.startsWith(TABLES_HEADER)) {
+                        table.add(line);
+                    }
                 }
             }
         } catch (final IOException e) // NOSONAR
@@ -139,6 +218,18 @@ abstract class AbstractSisuIndex {
     private void writeTable(final Object name, final Set<String> table) {
         try {
             try (BufferedWriter writer = new BufferedWriter(getWriter(INDEX_FOLDER + name))) {
+                // list the tables written alongside, so readers don't have to probe for them
+                final StringBuilder tables = new StringBuilder();
+                if (records.containsKey(name)) {
+                    tables.append(' ').append(RecordedClass.BINARY_SUFFIX);
+                }
+                if (hasModuleTable(name)) {
+                    tables.append(' ').append(MODULE_SUFFIX);
+                }
+                if (tables.length() > 0) {
+                    writer.write(TABLES_HEADER + tables);
+                    writer.newLine();
+                }
                 for (final String line : table) {
                     writer.write(line);
                     writer.newLine();
@@ -148,4 +239,44 @@ abstract class AbstractSisuIndex {
             warn(e.toString());
         }
     }
+
+    /**
+     * Reads the given binary table from disk to memory.
+     *
+     * @param name The table name
+     * @return Recorded classes, keyed by class name
+     */
+    private Map<String, RecordedClass> readRecords(final Object name) {
+        final Map<String, RecordedClass> table = new TreeMap<>();
+        try {
+            try (InputStream in = getInputStream(INDEX_FOLDER + name + RecordedClass.BINARY_SUFFIX)) {
+                for (final RecordedClass clazz : RecordedClass.readTable(in, null, null)) {
+                    table.put(clazz.getName().replace('/', '.'), clazz);
+                }
+            }
+        } catch (final IOException | RuntimeException e) // NOSONAR
+        {
+            // ignore missing or unreadable table, it will be rebuilt
+        }
+        return table;
+    }
+
+    /**
+     * Writes the given binary table from memory to disk; classes missing from the text table are dropped.
+     *
+     * @param name The table name
+     * @param table The recorded classes
+     */
+    private void writeRecords(final Object name, final Map<String, RecordedClass> table) {
+        final Set<String> names = index.get(name);
+        table.keySet().removeIf(clazz -> null == names || !names.contains(clazz));
+        table.values().removeIf(clazz -> !clazz.isWritable());
+        try {
+            try (OutputStream out = getOutputStream(INDEX_FOLDER + name + RecordedClass.BINARY_SUFFIX)) {
+                RecordedClass.writeTable(out, table.values());
+            }
+        } catch (final IOException e) {
+            warn(e.toString());
+        }
+    }
 }
@@ -44,7 +44,17 @@ public enum BeanScanning {
     /**
      * Use global index (application)
      */
-    GLOBAL_INDEX;
+    GLOBAL_INDEX,
+
+    /**
+     * Always scan, reading classes in parallel
+     */
+    PARALLEL,
+
+    /**
+     * Scan changed JARs and persist results across launches
+     */
+    PERSISTENT_CACHE;
 
     /**
      * Selects the property named <i>"org.eclipse.sisu.space.BeanScanning"</i> and attempts to map its value to a
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates the source of a Guice module that binds indexed classes the same way as {@link QualifiedTypeBinder}.
+ * <p>
+ * Binding names, binding types, and eagerness of plain beans are worked out at build time, so the runtime does not
+ * need to scan or reflect over them. Modules, mediators, providers, and classes that cannot be analyzed are passed
+ * to {@link QualifiedTypeBinder#hear} as usual.
+ */
+final class BindingModuleGenerator {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String[] HEARD_TYPES = {
+        "com.google.inject.Module", "org.eclipse.sisu.Mediator", "org.sonatype.inject.Mediator", "javax.inject.Provider"
+    };
+
+    private static final String[] TYPED = {"javax.enterprise.inject.Typed", "org.eclipse.sisu.Typed"};
+
+    private static final String[] EAGER_SINGLETON = {
+        "org.eclipse.sisu.EagerSingleton", "org.sonatype.inject.EagerSingleton"
+    };
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Elements elementUtils;
+
+    private final Types typeUtils;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    BindingModuleGenerator(final ProcessingEnvironment environment) {
+        elementUtils = environment.getElementUtils();
+        typeUtils = environment.getTypeUtils();
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Writes the source of a module that binds the given classes.
+     *
+     * @param moduleName The fully-qualified module name
+     * @param classNames The binary names of the indexed classes
+     * @param writer The source writer
+     */
+    void generate(final String moduleName, final Collection<String> classNames, final Writer writer)
+            throws IOException {
+        final int i = moduleName.lastIndexOf('.');
+        final String simpleName = moduleName.substring(i + 1);
+
+        final StringBuilder buf = new StringBuilder();
+        if (i > 0) {
+            buf.append("package ").append(moduleName, 0, i).append(";\n\n");
+        }
+        buf.append("/**\n * Bindings of indexed classes generated by ")
+                .append(SisuIndexAPT6.class.getName())
+                .append(".\n */\n");
+        buf.append("public final class ").append(simpleName).append(" implements com.google.inject.Module {\n");
+        buf.append("    @Override\n");
+        buf.append("    public void configure(final com.google.inject.Binder binder) {\n");
+        buf.append("        final org.eclipse.sisu.space.QualifiedTypeBinder types =\n");
+        buf.append("                new org.eclipse.sisu.space.QualifiedTypeBinder(binder);\n");
+        for (final String name : classNames) {
+            appendBinding(buf, name);
+        }
+        buf.append("    }\n\n");
+        buf.append("    private static Class<?> load(final String name) {\n");
+        buf.append("        try {\n");
+        buf.append("            return Class.forName(name, false, ")
+                .append(simpleName)
+                .append(".class.getClassLoader());\n");
+        buf.append("        } catch (final ClassNotFoundException e) {\n");
+        buf.append("            throw new TypeNotPresentException(name, e);\n");
+        buf.append("        }\n");
+        buf.append("    }\n");
+        buf.append("}\n");
+
+        writer.write(buf.toString());
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private void appendBinding(final StringBuilder buf, final String name) {
+        final TypeElement type = findType(name);
+        if (null != type && !isInstantiable(type)) {
+            return; // would be ignored when scanning
+        }
+        if (null != type && !isHeard(type)) {
+            try {
+                final String bindingName = bindingName(type);
+                final List<TypeElement> bindingTypes = bindingTypes(type);
+
+                final StringBuilder line = new StringBuilder("        types.bindQualifiedType(");
+                line.append(classRef(type, name)).append(", ");
+                line.append(null != bindingName ? quote(bindingName) : "null").append(", ");
+                if (null != bindingTypes) {
+                    line.append("new Class<?>[] {");
+                    for (int i = 0; i < bindingTypes.size(); i++) {
+                        final TypeElement bindingType = bindingTypes.get(i);
+                        line.append(i > 0 ? ", " : "").append(classRef(bindingType, binaryName(bindingType)));
+                    }
+                    line.append('}');
+                } else {
+                    line.append("null");
+                }
+                line.append(", ").append(hasAnnotation(type, EAGER_SINGLETON)).append(");\n");
+                buf.append(line);
+                return;
+            } catch (final RuntimeException e) // NOSONAR
+            {
+                // unusual binding types, leave it to the runtime
+            }
+        }
+        buf.append("        types.hear(").append(classRef(type, name)).append(", null);\n");
+    }
+
+    private TypeElement findType(final String binaryName) {
+        TypeElement type = elementUtils.getTypeElement(binaryName.replace('$', '.'));
+        if (null == type && binaryName.indexOf('$') > 0) {
+            type = elementUtils.getTypeElement(binaryName);
+        }
+        return null != type && binaryName.equals(binaryName(type)) ? type : null;
+    }
+
+    private static boolean isInstantiable(final TypeElement type) {
+        return type.getKind().isClass()
+                && type.getKind() != ElementKind.ENUM
+                && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private boolean isHeard(final TypeElement type) {
+        final TypeMirror erasure = typeUtils.erasure(type.asType());
+        for (final String heardName : HEARD_TYPES) {
+            final TypeElement heardType = elementUtils.getTypeElement(heardName);
+            if (null != heardType && typeUtils.isSubtype(erasure, typeUtils.erasure(heardType.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows {@code QualifiedTypeBinder.getBindingName}; returns {@code null} for the default binding.
+     */
+    private String bindingName(final TypeElement type) {
+        final AnnotationMirror jsr330 = findAnnotation(type, "javax.inject.Named");
+        final AnnotationMirror named = null != jsr330 ? jsr330 : findAnnotation(type, "com.google.inject.name.Named");
+        if (null != named) {
+            final Object value = annotationValue(named);
+            if (value instanceof String && !((String) value).isEmpty()) {
+                return "default".equals(value) ? null : (String) value;
+            }
+        }
+        if (type.getSimpleName().toString().startsWith("Default")) {
+            return null;
+        }
+        return binaryName(type);
+    }
+
+    /**
+     * Follows {@code QualifiedTypeBinder.getBindingTypes}; returns {@code null} when the type is not restricted.
+     */
+    private List<TypeElement> bindingTypes(final TypeElement type) {
+        for (TypeElement c = type; null != c && !"java.lang.Object".contentEquals(c.getQualifiedName()); ) {
+            for (final String typedName : TYPED) {
+                final AnnotationMirror typed = findAnnotation(c, typedName);
+                if (null != typed) {
+                    final List<TypeElement> types = new ArrayList<>();
+                    final Object value = annotationValue(typed);
+                    if (value instanceof List<?> && !((List<?>) value).isEmpty()) {
+                        for (final Object v : (List<?>) value) {
+                            types.add(asTypeElement((TypeMirror) ((AnnotationValue) v).getValue()));
+                        }
+                    } else {
+                        for (final TypeMirror i : c.getInterfaces()) {
+                            types.add(asTypeElement(i));
+                        }
+                    }
+                    return types;
+                }
+            }
+            final TypeMirror superclass = c.getSuperclass();
+            c = superclass.getKind() == TypeKind.DECLARED ? asTypeElement(superclass) : null;
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(final Element element, final String... annotationNames) {
+        for (final String annotationName : annotationNames) {
+            if (null != findAnnotation(element, annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AnnotationMirror findAnnotation(final Element element, final String annotationName) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object annotationValue(final AnnotationMirror mirror) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> element :
+                mirror.getElementValues().entrySet()) {
+            if (element.getKey().getSimpleName().contentEquals("value")) {
+                return element.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static TypeElement asTypeElement(final TypeMirror type) {
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private String binaryName(final TypeElement type) {
+        return elementUtils.getBinaryName(type).toString();
+    }
+
+    /**
+     * Refers to the class with a literal when it's accessible from the generated module, otherwise loads it by name.
+     */
+    private static String classRef(final TypeElement type, final String binaryName) {
+        for (Element e = type; null != e; e = e.getEnclosingElement()) {
+            if (e.getKind() == ElementKind.PACKAGE) {
+                return type.getQualifiedName() + ".class";
+            }
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                break;
+            }
+        }
+        return "load(" + quote(binaryName) + ")";
+    }
+
+    private static String quote(final String text) {
+        final StringBuilder buf = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                buf.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                buf.append(String.format("\\u%04x", (int) c));
+            } else {
+                buf.append(c);
+            }
+        }
+        return buf.append('"').toString();
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.sisu.inject.Logs;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * {@link ClassFinder} that remembers which classes in each local JAR carry class-level annotations.
+ * <p>
+ * Results are persisted per JAR in the given directory, keyed by the JAR's path, size, and last-modified time,
+ * so later launches only visit annotated classes from unchanged JARs and rescan the rest. Directories and remote
+ * class path entries are always scanned. As un-annotated classes are skipped, this finder is only suitable for
+ * annotation-driven visitors such as {@link QualifiedTypeVisitor}.
+ * <p>
+ * The cache directory is created with owner-only permissions. If it, or any cache file in it, is owned by another user
+ * or can be written by other users then it is ignored and every JAR is scanned as normal.
+ */
+public final class CachedClassFinder implements ClassFinder {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String CACHE_HEADER = "#sisu-scan-cache:1";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final String CACHE_DIR_PROPERTY = "sisu.scan.cache";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final File cacheDir;
+
+    private volatile Boolean trusted; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    /**
+     * @param cacheDir The directory containing the persistent scan cache
+     */
+    public CachedClassFinder(final File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Uses the directory named by the 'sisu.scan.cache' system property, or '.sisu/scan-cache' in the user's home.
+     */
+    public CachedClassFinder() {
+        this(defaultCacheDir());
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public Enumeration<URL> findClasses(final ClassSpace space) {
+        if (space instanceof URLClassSpace) {
+            return new CachedClassEnumeration(((URLClassSpace) space).getURLs());
+        }
+        return SpaceScanner.DEFAULT_FINDER.findClasses(space); // can't determine the class path
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static File defaultCacheDir() {
+        final String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        if (null != cacheDir && !cacheDir.isEmpty()) {
+            return new File(cacheDir);
+        }
+        return new File(new File(System.getProperty("user.home"), ".sisu"), "scan-cache");
+    }
+
+    /**
+     * Finds the annotated classes in the given JAR, using the persistent cache wherever possible.
+     *
+     * @param url The JAR URL
+     * @return Annotated class URLs
+     */
+    List<URL> findAnnotatedClasses(final URL url) {
+        final File jar = FileEntryIterator.toFile(url);
+        final String key = url + " " + jar.length() + " " + jar.lastModified();
+        final File cacheFile = new File(cacheDir, cacheName(url));
+        final boolean useCache = isTrustedCacheDir();
+
+        List<String> names = useCache ? readCache(cacheFile, key) : null;
+        if (null == names) {
+            try {
+                names = scanAnnotatedClasses(jar);
+            } catch (final IOException | RuntimeException e) {
+                Logs.debug("Problem scanning: {}", url, e);
+                return Collections.emptyList();
+            }
+            if (useCache) {
+                writeCache(cacheFile, key, names);
+            }
+        }
+
+        final List<URL> classes = new ArrayList<>(names.size());
+        for (final String name : names) {
+            try {
+                classes.add(new URL("jar:" + url + "!/" + name));
+            } catch (final MalformedURLException e) {
+                // this shouldn't happen, hence illegal state
+                throw new IllegalStateException(e.toString());
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Creates the cache directory with owner-only permissions if necessary, then checks that it can be trusted.
+     */
+    private boolean isTrustedCacheDir() {
+        Boolean result = trusted;
+        if (null == result) {
+            final Path dir = cacheDir.toPath();
+            try {
+                if (!Files.isDirectory(dir)) {
+                    if (isPosix(dir)) {
+                        Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+                    } else {
+                        Files.createDirectories(dir);
+                    }
+                }
+                result = Boolean.valueOf(isPrivate(dir, currentUser(dir)));
+            } catch (final IOException | RuntimeException e) {
+                Logs.debug("Problem opening scan cache: {}", cacheDir, e);
+                result = Boolean.FALSE;
+            }
+            if (!result.booleanValue()) {
+                Logs.debug("Ignoring scan cache: {} as it is shared with other users", cacheDir, null);
+            }
+            trusted = result;
+        }
+        return result.booleanValue();
+    }
+
+    /**
+     * Lists annotated classes in the given JAR, in the same order as they appear in its central directory.
+     */
+    private static List<String> scanAnnotatedClasses(final File jar) throws IOException {
+        final List<String> names = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            final AnnotationDetector detector = new AnnotationDetector();
+            for (final Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements(); ) {
+                final ZipEntry entry = e.nextElement();
+                final String name = entry.getName();
+                if (name.endsWith(CLASS_SUFFIX) && !entry.isDirectory()) {
+                    try (InputStream in = zipFile.getInputStream(entry)) {
+                        if (detector.isAnnotated(new ClassReader(in))) {
+                            names.add(name);
+                        }
+                    } catch (final IOException | RuntimeException ex) {
+                        names.add(name); // let the visitor decide how to report the problem
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    private static List<String> readCache(final File cacheFile, final String key) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try {
+            final Path path = cacheFile.toPath();
+            if (!isPrivate(path, currentUser(path))) {
+                Logs.debug("Ignoring scan cache: {} as it is shared with other users", cacheFile, null);
+                return null;
+            }
+        } catch (final IOException | RuntimeException e) {
+            Logs.debug("Problem reading scan cache: {}", cacheFile, e);
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+            if (!CACHE_HEADER.equals(reader.readLine()) || !key.equals(reader.readLine())) {
+                return null; // stale or belongs to another JAR
+            }
+            final List<String> names = new ArrayList<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty()) {
+                    names.add(line);
+                }
+            }
+            return names;
+        } catch (final IOException | RuntimeException e) {
+            Logs.debug("Problem reading scan cache: {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    private static void writeCache(final File cacheFile, final String key, final List<String> names) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParentFile().toPath());
+            tempFile = Files.createTempFile(cacheFile.getParentFile().toPath(), cacheFile.getName(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(CACHE_HEADER);
+                writer.newLine();
+                writer.write(key);
+                writer.newLine();
+                for (final String name : names) {
+                    writer.write(name);
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(tempFile, cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException | RuntimeException e) {
+            Logs.debug("Problem writing scan cache: {}", cacheFile, e);
+            if (null != tempFile) {
+                tempFile.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Derives a stable file name for the given JAR URL.
+     */
+    private static String cacheName(final URL url) {
+        try {
+            final byte[] digest =
+                    MessageDigest.getInstance("SHA-1").digest(url.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder buf = new StringBuilder(digest.length * 2 + 4);
+            for (final byte b : digest) {
+                buf.append(Character.forDigit(b >> 4 & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+            }
+            return buf.append(".idx").toString();
+        } catch (final NoSuchAlgorithmException e) {
+            return Integer.toHexString(url.toString().hashCode()) + ".idx"; // key in cache file resolves collisions
+        }
+    }
+
+    private static UserPrincipal currentUser(final Path path) throws IOException {
+        return path.getFileSystem()
+                .getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+    }
+
+    /**
+     * @return {@code true} if the path is owned by the given user and cannot be written by anyone else
+     */
+    private static boolean isPrivate(final Path path, final UserPrincipal user) throws IOException {
+        if (!user.equals(Files.getOwner(path))) {
+            return false;
+        }
+        if (isPosix(path)) {
+            final Set<PosixFilePermission> perms = Files.getPosixFilePermissions(path);
+            return !perms.contains(PosixFilePermission.GROUP_WRITE)
+                    && !perms.contains(PosixFilePermission.OTHERS_WRITE);
+        }
+        return true;
+    }
+
+    private static boolean isPosix(final Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private static boolean isLocalJar(final URL url) {
+        return "file".equals(url.getProtocol()) && !url.getPath().endsWith("/");
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * {@link Enumeration} of class resources that uses the persistent cache for local JARs.
+     */
+    final class CachedClassEnumeration implements Enumeration<URL> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final URL[] urls;
+
+        private int index;
+
+        private Enumeration<URL> current = Collections.emptyEnumeration();
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        CachedClassEnumeration(final URL[] urls) {
+            this.urls = urls;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasMoreElements() {
+            while (!current.hasMoreElements()) {
+                if (index >= urls.length) {
+                    return false;
+                }
+                final URL url = urls[index++];
+                if (isLocalJar(url)) {
+                    current = Collections.enumeration(findAnnotatedClasses(url));
+                } else {
+                    current = new ResourceEnumeration(null, "*" + CLASS_SUFFIX, true, new URL[] {url});
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public URL nextElement() {
+            if (hasMoreElements()) {
+                return current.nextElement();
+            }
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Detects whether a class has any class-level annotations.
+     */
+    static final class AnnotationDetector extends org.objectweb.asm.ClassVisitor {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private boolean annotated;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        AnnotationDetector() {
+            super(Opcodes.ASM9);
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public org.objectweb.asm.AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+            annotated = true;
+            return null;
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        boolean isAnnotated(final ClassReader reader) {
+            annotated = false;
+            reader.accept(this, SpaceScanner.ASM_FLAGS);
+            return annotated;
+        }
+    }
+}
@@ -14,18 +14,35 @@ package org.eclipse.sisu.space;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import org.eclipse.sisu.inject.Logs;
 
 /**
  * {@link ClassFinder} that finds {@link Class} resources listed in the named index.
+ * <p>
+ * Classes also recorded in the binary table next to the index are replayed by the {@link SpaceScanner} without
+ * reading their class resources, as long as the class space resolves them next to the index. They're enumerated at
+ * that location without looking them up; the class space is only consulted once a visitor asks for their contents.
+ * The text index remains authoritative.
+ * <p>
+ * Modules generated by {@link SisuIndexAPT6} are also listed next to the index, along with the classes they bind.
+ * Tables next to the index are only read when they're listed in its header.
  */
 public final class IndexedClassFinder implements ClassFinder {
     // ----------------------------------------------------------------------
@@ -36,6 +53,13 @@ public final class IndexedClassFinder implements ClassFinder {
 
     private final String indexName;
 
+    private final String indexPath;
+
+    /**
+     * Maps class resource names to URLs relative to the index, such as "../../".
+     */
+    private final String rootPrefix;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -49,6 +73,12 @@ public final class IndexedClassFinder implements ClassFinder {
             localPath = name.substring(0, i);
             indexName = name.substring(i);
         }
+        indexPath = name.startsWith("/") ? name.substring(1) : name;
+        final StringBuilder buf = new StringBuilder();
+        for (int i = indexPath.indexOf('/'); i >= 0; i = indexPath.indexOf('/', i + 1)) {
+            buf.append("../");
+        }
+        rootPrefix = buf.toString();
     }
 
     // ----------------------------------------------------------------------
@@ -56,6 +86,46 @@ public final class IndexedClassFinder implements ClassFinder {
     // ----------------------------------------------------------------------
 
     public Iterable<String> indexedNames(final ClassSpace space) {
+        return indexedNames(space, null, null);
+    }
+
+    @Override
+    public Enumeration<URL> findClasses(final ClassSpace space) {
+        return findClasses(space, null);
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Finds indexed classes, leaving out those bound by generated modules when requested.
+     *
+     * @param space The class space
+     * @param modules Optional map to receive generated module types, along with their source
+     * @return Class resource URLs
+     * @see SisuIndexAPT6
+     */
+    Enumeration<URL> findClasses(final ClassSpace space, final Map<Class<?>, Object> modules) {
+        final Map<String, RecordedClass> records = new HashMap<>();
+        return new IndexedClasses(space, indexedNames(space, records, modules).iterator(), records);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Reads the class names listed in the named index, along with any binary records and generated modules when
+     * requested. Classes bound by a generated module are left out.
+     *
+     * @param space The class space
+     * @param records Optional map to receive binary records, keyed by class name
+     * @param modules Optional map to receive generated module types, along with their source
+     * @return Indexed class names
+     */
+    private Iterable<String> indexedNames(
+            final ClassSpace space, final Map<String, RecordedClass> records, final Map<Class<?>, Object> modules) {
         final Enumeration<URL> indices;
 
         if (null == localPath) {
@@ -67,6 +137,8 @@ public final class IndexedClassFinder implements ClassFinder {
         final Set<String> names = new LinkedHashSet<>();
         while (indices.hasMoreElements()) {
             final URL url = indices.nextElement();
+            final List<String> indexed = new ArrayList<>();
+            final Set<String> tables = new HashSet<>();
             try {
                 try (BufferedReader reader =
                         new BufferedReader(new InputStreamReader(Streams.open(url), StandardCharsets.UTF_8))) {
@@ -74,45 +146,202 @@ public final class IndexedClassFinder implements ClassFinder {
                     for (String line = reader.readLine(); line != null; line = reader.readLine()) {
                         final int i = line.indexOf('#');
                         if (i == 0) {
+                            if (line.startsWith(AbstractSisuIndex.TABLES_HEADER)) {
+                                final String suffixes = line.substring(AbstractSisuIndex.TABLES_HEADER.length());
+                                tables.addAll(Arrays.asList(suffixes.trim().split("\\s+")));
+                            }
                             continue; // entire line is a comment, ignore it
                         }
                         final String name = (i < 0 ? line : line.substring(0, i)).trim();
                         if (!name.isEmpty()) {
-                            names.add(name);
+                            indexed.add(name);
                         }
                     }
                 }
             } catch (final IOException e) {
                 Logs.warn("Problem reading: {}", url, e);
+                continue;
+            }
+            if (null != modules && tables.contains(AbstractSisuIndex.MODULE_SUFFIX)) {
+                indexed.removeAll(readModuleTable(space, url, modules));
+            }
+            names.addAll(indexed);
+            if (null != records && tables.contains(RecordedClass.BINARY_SUFFIX)) {
+                readRecords(url, records);
             }
         }
         return names;
     }
 
-    @Override
-    public Enumeration<URL> findClasses(final ClassSpace space) {
-        final Iterator<String> itr = indexedNames(space).iterator();
-
-        return new Enumeration<URL>() {
-            private URL nextURL;
+    /**
+     * Reads the binary table next to the given index; the first record found for each class wins.
+     * <p>
+     * Each record remembers where its class should be found next to the index; it's only replayed if the class space
+     * resolves the class to that same location.
+     *
+     * @param indexURL The index URL
+     * @param records The map receiving binary records, keyed by class name
+     */
+    private void readRecords(final URL indexURL, final Map<String, RecordedClass> records) {
+        URL url = null;
+        try {
+            url = siblingURL(indexURL, RecordedClass.BINARY_SUFFIX);
+            if (null == url) {
+                return; // unexpected location, stick to the text index
+            }
+            final String ref = indexURL.getRef();
+            // nested archive entries are addressed by reference
+            final String prefix = null != ref ? '#' + ref.substring(0, ref.length() - indexPath.length()) : rootPrefix;
+            try (InputStream in = Streams.open(url)) {
+                for (final RecordedClass record : RecordedClass.readTable(in, url, prefix)) {
+                    records.putIfAbsent(record.getName().replace('/', '.'), record);
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            Logs.debug("Problem reading: {}", url, e);
+        }
+    }
 
-            @Override
-            public boolean hasMoreElements() {
-                while (null == nextURL && itr.hasNext()) {
-                    nextURL = space.getResource(itr.next().replace('.', '/') + ".class");
+    /**
+     * Reads the table next to the given index that lists a generated module, followed by the classes it binds.
+     *
+     * @param space The class space
+     * @param indexURL The index URL
+     * @param modules The map receiving generated module types, along with their source
+     * @return Names of the classes bound by the module; empty if there is no usable module
+     */
+    private Set<String> readModuleTable(
+            final ClassSpace space, final URL indexURL, final Map<Class<?>, Object> modules) {
+        URL url = null;
+        try {
+            url = siblingURL(indexURL, AbstractSisuIndex.MODULE_SUFFIX);
+            if (null == url) {
+                return Collections.emptySet();
+            }
+            final Set<String> bound = new HashSet<>();
+            final String moduleName;
+            try (BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(Streams.open(url), StandardCharsets.UTF_8))) {
+                moduleName = reader.readLine();
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    bound.add(line.trim());
                 }
-                return null != nextURL;
             }
+            if (null != moduleName) {
+                final Class<?> moduleType = space.loadClass(moduleName.trim());
+                final String path = indexURL.getPath();
+                modules.put(
+                        moduleType,
+                        path.endsWith(indexPath) ? path.substring(0, path.length() - indexPath.length()) : path);
+                return bound;
+            }
+        } catch (final IOException | RuntimeException | LinkageError e) {
+            Logs.debug("Problem reading: {}", url, e);
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Locates the table with the given suffix next to the given index.
+     *
+     * @param indexURL The index URL
+     * @param suffix The table suffix
+     * @return Table URL; {@code null} if the index is in an unexpected location
+     */
+    private URL siblingURL(final URL indexURL, final String suffix) throws MalformedURLException {
+        final String ref = indexURL.getRef();
+        if (null != ref) {
+            // nested archive entries are addressed by reference
+            return ref.endsWith(indexPath) ? new URL(indexURL, '#' + ref + suffix) : null;
+        }
+        return new URL(indexURL, indexPath.substring(indexPath.lastIndexOf('/') + 1) + suffix);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Enumerates indexed classes, exposing the binary record of the class most recently returned.
+     */
+    static final class IndexedClasses implements Enumeration<URL> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final ClassSpace space;
+
+        private final Iterator<String> itr;
+
+        private final Map<String, RecordedClass> records;
+
+        private URL nextURL;
+
+        private RecordedClass nextRecord;
+
+        private RecordedClass currentRecord;
 
-            @Override
-            public URL nextElement() {
-                if (hasMoreElements()) {
-                    final URL tempURL = nextURL;
-                    nextURL = null;
-                    return tempURL;
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        IndexedClasses(final ClassSpace space, final Iterator<String> itr, final Map<String, RecordedClass> records) {
+            this.space = space;
+            this.itr = itr;
+            this.records = records;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasMoreElements() {
+            while (null == nextURL && itr.hasNext()) {
+                final String name = itr.next();
+                nextRecord = records.get(name);
+                if (null != nextRecord) {
+                    nextURL = nextRecord.url(); // checked against the class space when its contents are needed
                 }
-                throw new NoSuchElementException();
+                if (null == nextURL) {
+                    nextRecord = null;
+                    nextURL = space.getResource(name.replace('.', '/') + ".class");
+                }
+            }
+            return null != nextURL;
+        }
+
+        @Override
+        public URL nextElement() {
+            if (hasMoreElements()) {
+                final URL tempURL = nextURL;
+                currentRecord = nextRecord;
+                nextURL = null;
+                nextRecord = null;
+                return tempURL;
             }
-        };
+            throw new NoSuchElementException();
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        /**
+         * @return Binary record of the class most recently returned; {@code null} if it has no record
+         */
+        RecordedClass currentRecord() {
+            return currentRecord;
+        }
+
+        /**
+         * Resolves the recorded class in the class space; only done when a visitor needs the class contents.
+         *
+         * @param record The binary record
+         * @return Class resource URL; the record only applies if the class is still located next to the index
+         */
+        URL resolve(final RecordedClass record) {
+            return space.getResource(record.getName() + ".class");
+        }
     }
 }
@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Random-access index of a JAR nested inside another archive, such as {@code WEB-INF/lib/foo.jar} inside a WAR.
+ * <p>
+ * The central directory of the nested JAR is read once and cached, so individual entries can be opened without
+ * re-streaming the containing archive. When the containing archive is a local file its central directory is also
+ * read once and cached, and the file is closed between reads.
+ * <p>
+ * Stored nested JARs, the usual layout for libraries in WARs and fat JARs, are indexed in place: only their central
+ * directory is kept in memory and each entry is read from its own byte range of the containing file. Compressed nested
+ * JARs, or those not inside a local file, must be read up-front, so their entire content stays on the heap for as long
+ * as the index is cached; the cache is soft, so such indexes are released when memory runs low.
+ */
+final class NestedJarIndex {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+
+    private static final int END_HEADER_SIG = 0x06054b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int END_HEADER_SIZE = 22;
+
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final ConcurrentMap<String, NestedJarIndex> INDEX_CACHE = Soft.concurrentValues();
+
+    private static final ConcurrentMap<String, ArchiveDirectory> DIRECTORY_CACHE = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final File containingFile;
+
+    private final long lastModified;
+
+    private final long length;
+
+    // position and size of a stored nested JAR inside the containing file
+    private final long base;
+
+    private final long size;
+
+    // nested JAR content, only kept when it can't be read in place
+    private final ByteBuffer content;
+
+    private final Map<String, Entry> entries;
+
+    private final ZipEntryIndex entryIndex;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private NestedJarIndex(final File containingFile, final ByteBuffer content) throws IOException {
+        this.containingFile = containingFile;
+        lastModified = null != containingFile ? containingFile.lastModified() : 0;
+        length = null != containingFile ? containingFile.length() : 0;
+        base = -1;
+        size = content.limit();
+        this.content = content.order(ByteOrder.LITTLE_ENDIAN);
+
+        entries = new HashMap<>();
+        try {
+            final int end = findEndHeader(this.content);
+            final int count = this.content.getShort(end + 10) & 0xFFFF;
+            entryIndex = new ZipEntryIndex(
+                    readCentralDirectory(this.content, this.content.getInt(end + 16), count, entries));
+        } catch (final IndexOutOfBoundsException e) {
+            throw new ZipException("Truncated central directory");
+        }
+    }
+
+    private NestedJarIndex(final File containingFile, final FileChannel channel, final long base, final long size)
+            throws IOException {
+        this.containingFile = containingFile;
+        lastModified = containingFile.lastModified();
+        length = channel.size();
+        this.base = base;
+        this.size = size;
+        content = null;
+
+        entries = new HashMap<>();
+        entryIndex = new ZipEntryIndex(readDirectory(channel, base, size, entries));
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the cached index for the given nested JAR, building it on first access.
+     *
+     * @param jarURL The nested JAR URL, e.g. {@code jar:file:/app.war!/WEB-INF/lib/foo.jar}
+     * @return Index of the nested JAR
+     */
+    static NestedJarIndex forURL(final URL jarURL) throws IOException {
+        final String key = jarURL.getFile();
+        NestedJarIndex index = INDEX_CACHE.get(key);
+        if (null == index || index.isStale()) {
+            index = build(jarURL);
+            INDEX_CACHE.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return Shared index of the entry names in the nested JAR
+     */
+    ZipEntryIndex getEntryIndex() {
+        return entryIndex;
+    }
+
+    /**
+     * Opens the named entry inside the nested JAR.
+     *
+     * @param name The entry name
+     * @return Stream of the entry's uncompressed content
+     */
+    InputStream getInputStream(final String name) throws IOException {
+        final Entry entry = entries.get(name);
+        if (null == entry) {
+            throw new ZipException("No such entry: " + name);
+        }
+        if (entry.offset + LOCAL_HEADER_SIZE > size) {
+            throw new ZipException("Invalid local header: " + name);
+        }
+        final ByteBuffer data;
+        if (null != content) {
+            final ByteBuffer buf = content.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final int offset = (int) entry.offset;
+            final long dataStart = entryData(buf, offset, entry, name);
+            buf.position((int) dataStart).limit((int) (dataStart + entry.compressedSize));
+            data = buf.slice();
+        } else {
+            try (FileChannel channel = FileChannel.open(containingFile.toPath(), StandardOpenOption.READ)) {
+                final ByteBuffer header = readRange(channel, base + entry.offset, LOCAL_HEADER_SIZE);
+                final long dataStart = entryData(header, 0, entry, name);
+                data = readRange(channel, base + entry.offset + dataStart, entry.compressedSize);
+            }
+        }
+        final InputStream in = openEntry(new ByteBufferInputStream(data), entry.method);
+        if (null == in) {
+            throw new ZipException("Unsupported compression method: " + entry.method + " for: " + name);
+        }
+        return in;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Checks the local header of the given entry and finds where its data starts.
+     *
+     * @param buf The buffer containing the local header
+     * @param offset The position of the local header
+     * @return Position of the entry's data, relative to the buffer
+     */
+    private long entryData(final ByteBuffer buf, final int offset, final Entry entry, final String name)
+            throws ZipException {
+        if (buf.getInt(offset) != LOCAL_HEADER_SIG) {
+            throw new ZipException("Invalid local header: " + name);
+        }
+        final long dataStart = offset
+                + LOCAL_HEADER_SIZE
+                + (buf.getShort(offset + 26) & 0xFFFF)
+                + (buf.getShort(offset + 28) & 0xFFFF);
+        if (entry.offset - offset + dataStart + entry.compressedSize > size) {
+            throw new ZipException("Truncated entry: " + name);
+        }
+        return dataStart;
+    }
+
+    /**
+     * @return {@code true} if the containing file has changed since this index was built; otherwise {@code false}
+     */
+    private boolean isStale() {
+        return null != containingFile
+                && (containingFile.lastModified() != lastModified || containingFile.length() != length);
+    }
+
+    /**
+     * Builds a new index by reading the nested JAR content.
+     */
+    private static NestedJarIndex build(final URL jarURL) throws IOException {
+        final String file = jarURL.getFile();
+        final int separator = file.indexOf("!/");
+        if (separator > 0 && file.startsWith("file:") && file.indexOf("!/", separator + 2) < 0) {
+            final File containingFile = FileEntryIterator.toFile(new URL(file.substring(0, separator)));
+            final NestedJarIndex index = readNestedJar(containingFile, file.substring(separator + 2));
+            if (null != index) {
+                return index;
+            }
+            return new NestedJarIndex(containingFile, ByteBuffer.wrap(readFully(Streams.open(jarURL))));
+        }
+        return new NestedJarIndex(null, ByteBuffer.wrap(readFully(Streams.open(jarURL))));
+    }
+
+    /**
+     * Indexes the named JAR inside the containing file, using its cached central directory to find the JAR.
+     *
+     * @return Index of the nested JAR; {@code null} if the JAR is missing or can't be read directly
+     */
+    private static NestedJarIndex readNestedJar(final File containingFile, final String entryName) {
+        try (FileChannel channel = FileChannel.open(containingFile.toPath(), StandardOpenOption.READ)) {
+            final Entry entry =
+                    ArchiveDirectory.forFile(containingFile, channel).entries.get(entryName);
+            if (null == entry) {
+                return null;
+            }
+            final ByteBuffer header = readRange(channel, entry.offset, LOCAL_HEADER_SIZE);
+            if (header.getInt(0) != LOCAL_HEADER_SIG) {
+                return null;
+            }
+            final long dataStart =
+                    entry.offset + LOCAL_HEADER_SIZE + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+
+            if (ZipEntry.STORED == entry.method) {
+                return new NestedJarIndex(containingFile, channel, dataStart, entry.compressedSize);
+            }
+            if (entry.size > Integer.MAX_VALUE) {
+                return null;
+            }
+            final ByteBuffer data = readRange(channel, dataStart, entry.compressedSize);
+            final InputStream in = openEntry(new ByteBufferInputStream(data), entry.method);
+            return null != in ? new NestedJarIndex(containingFile, ByteBuffer.wrap(readFully(in))) : null;
+        } catch (final IOException | RuntimeException e) {
+            Logs.debug("Problem reading: {}", containingFile + "!/" + entryName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the given range of the file into a new little-endian buffer.
+     */
+    private static ByteBuffer readRange(final FileChannel channel, final long position, final long length)
+            throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new ZipException("Unsupported entry size: " + length);
+        }
+        final ByteBuffer buf = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, position + buf.position()) < 0) {
+                throw new ZipException("Truncated archive");
+            }
+        }
+        buf.flip();
+        return buf;
+    }
+
+    /**
+     * Wraps the raw entry stream so it returns uncompressed content.
+     *
+     * @return Uncompressed stream; {@code null} if the compression method is not supported
+     */
+    private static InputStream openEntry(final InputStream in, final int method) {
+        if (ZipEntry.STORED == method) {
+            return in;
+        }
+        if (ZipEntry.DEFLATED == method) {
+            return new InflaterInputStream(in, new Inflater(true)) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    inf.end();
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Reads the central directory of the archive in the given range of the file into the entry map.
+     *
+     * @param channel The file
+     * @param base The position of the archive
+     * @param size The size of the archive
+     * @return Entry names in central directory order
+     */
+    private static String[] readDirectory(
+            final FileChannel channel, final long base, final long size, final Map<String, Entry> entries)
+            throws IOException {
+        final int tailSize = (int) Math.min(size, END_HEADER_SIZE + MAX_COMMENT_SIZE);
+        final ByteBuffer tail = readRange(channel, base + size - tailSize, tailSize);
+        final int end = findEndHeader(tail);
+        final int count = tail.getShort(end + 10) & 0xFFFF;
+        final long directorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+        final long directoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+        if (directoryOffset + directorySize > size) {
+            throw new ZipException("Truncated central directory");
+        }
+        return readCentralDirectory(readRange(channel, base + directoryOffset, directorySize), 0, count, entries);
+    }
+
+    /**
+     * Reads central directory records into the entry map; names are decoded as UTF-8, same as the JDK.
+     *
+     * @param buf The buffer containing the central directory
+     * @param start The position of the first record
+     * @param count The number of records
+     * @return Entry names in central directory order
+     */
+    private static String[] readCentralDirectory(
+            final ByteBuffer buf, final int start, final int count, final Map<String, Entry> entries)
+            throws ZipException {
+        try {
+            int pos = start;
+            final String[] names = new String[count];
+            for (int i = 0; i < count; i++) {
+                if (buf.getInt(pos) != CENTRAL_HEADER_SIG) {
+                    throw new ZipException("Invalid central directory header");
+                }
+                final int method = buf.getShort(pos + 10) & 0xFFFF;
+                final long compressedSize = buf.getInt(pos + 20) & 0xFFFFFFFFL;
+                final long size = buf.getInt(pos + 24) & 0xFFFFFFFFL;
+                final int nameLength = buf.getShort(pos + 28) & 0xFFFF;
+                final int extraLength = buf.getShort(pos + 30) & 0xFFFF;
+                final int commentLength = buf.getShort(pos + 32) & 0xFFFF;
+                final long offset = buf.getInt(pos + 42) & 0xFFFFFFFFL;
+
+                final byte[] nameBytes = new byte[nameLength];
+                final ByteBuffer nameBuf = buf.duplicate();
+                nameBuf.position(pos + CENTRAL_HEADER_SIZE);
+                nameBuf.get(nameBytes);
+
+                names[i] = new String(nameBytes, StandardCharsets.UTF_8);
+                entries.put(names[i], new Entry(method, compressedSize, size, offset));
+                pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+            }
+            return names;
+        } catch (final IndexOutOfBoundsException e) {
+            throw new ZipException("Truncated central directory");
+        }
+    }
+
+    /**
+     * Searches backwards for the end of central directory record, skipping over any trailing comment.
+     */
+    private static int findEndHeader(final ByteBuffer buf) throws ZipException {
+        final int last = buf.limit() - END_HEADER_SIZE;
+        for (int pos = last, min = Math.max(0, last - MAX_COMMENT_SIZE); pos >= min; pos--) {
+            if (buf.getInt(pos) == END_HEADER_SIG) {
+                return pos;
+            }
+        }
+        throw new ZipException("Missing end of central directory");
+    }
+
+    /**
+     * Reads the entire stream into memory, closing it afterwards.
+     */
+    private static byte[] readFully(final InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            byte[] buf = new byte[8192];
+            int size = 0;
+            for (int n; (n = in.read(buf, size, buf.length - size)) >= 0; ) {
+                size += n;
+                if (size == buf.length) {
+                    final byte[] newBuf = new byte[size << 1];
+                    System.arraycopy(buf, 0, newBuf, 0, size);
+                    buf = newBuf;
+                }
+            }
+            final byte[] content = new byte[size];
+            System.arraycopy(buf, 0, content, 0, size);
+            return content;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Location of a single entry inside an archive.
+     */
+    private static final class Entry {
+        final int method;
+
+        final long compressedSize;
+
+        final long size;
+
+        final long offset;
+
+        Entry(final int method, final long compressedSize, final long size, final long offset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Cached central directory of a local archive that contains nested JARs.
+     */
+    private static final class ArchiveDirectory {
+        private final File file;
+
+        private final long lastModified;
+
+        private final long length;
+
+        final Map<String, Entry> entries = new HashMap<>();
+
+        private ArchiveDirectory(final File file, final FileChannel channel) throws IOException {
+            this.file = file;
+            lastModified = file.lastModified();
+            length = channel.size();
+
+            readDirectory(channel, 0, length, entries);
+        }
+
+        /**
+         * Returns the cached central directory for the given archive, reading it on first access.
+         */
+        static ArchiveDirectory forFile(final File file, final FileChannel channel) throws IOException {
+            final String key = file.getPath();
+            ArchiveDirectory directory = DIRECTORY_CACHE.get(key);
+            if (null == directory || directory.isStale()) {
+                directory = new ArchiveDirectory(file, channel);
+                DIRECTORY_CACHE.put(key, directory);
+            }
+            return directory;
+        }
+
+        private boolean isStale() {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
+    }
+
+    /**
+     * {@link InputStream} that reads from a {@link ByteBuffer} without copying it.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(final ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int skipped = (int) Math.min(Math.max(n, 0), buf.remaining());
+            buf.position(buf.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buf.remaining();
+        }
+    }
+}
@@ -26,9 +26,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import javax.inject.Provider;
 import org.eclipse.sisu.Mediator;
 import org.eclipse.sisu.inject.BeanLocator;
+import org.eclipse.sisu.inject.DeferredClass;
+import org.eclipse.sisu.inject.DeferredProvider;
 import org.eclipse.sisu.inject.TypeArguments;
 
 /**
@@ -86,15 +91,7 @@ public final class QualifiedTypeBinder implements QualifiedTypeListener {
     @Override
     @SuppressWarnings("deprecation")
     public void hear(final Class qualifiedType, final Object source) {
-        if (currentSource != source) {
-            if (null != source) {
-                binder = rootBinder.withSource(source);
-                currentSource = source;
-            } else {
-                binder = rootBinder;
-                currentSource = null;
-            }
-        }
+        selectBinder(source);
 
         if (!TypeArguments.isConcrete(qualifiedType)) {
             return;
@@ -111,10 +108,99 @@ public final class QualifiedTypeBinder implements QualifiedTypeListener {
         }
     }
 
+    /**
+     * Binds a qualified type whose binding name, binding types, and eagerness were determined at build time, such as
+     * by the module generated by {@link SisuIndexAPT6}. No reflection is used to analyze the type.
+     *
+     * @param qualifiedType The qualified type
+     * @param name The binding name; {@code null} for the default binding
+     * @param types The binding types; {@code null} to bind under all the type's supertypes
+     * @param eager If set to {@code true} the type is bound as an eager singleton
+     */
+    public void bindQualifiedType(
+            final Class<?> qualifiedType, final String name, final Class<?>[] types, final boolean eager) {
+        bindQualified(qualifiedType, null != name ? Names.named(name) : null, types, eager);
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Binds a qualified type to a {@link DeferredProvider} without loading it, using the given scan metadata. Loading
+     * is left to the first lookup of a matching binding, and construction to the first provisioning request.
+     *
+     * @param space The class space
+     * @param name The qualified type's binary name
+     * @param bindingName The binding name; {@code null} for the default binding
+     * @param _extends The qualified type's superclass, in internal form
+     * @param _implements The qualified type's interfaces, in internal form
+     * @param source The binding source
+     * @return {@code true} if the type was bound; {@code false} if it must be loaded to be bound
+     */
+    @SuppressWarnings("deprecation")
+    boolean bindDeferredType(
+            final ClassSpace space,
+            final String name,
+            final String bindingName,
+            final String _extends,
+            final String[] _implements,
+            final Object source) {
+        final Set<Class<?>> supertypes = new LinkedHashSet<>();
+        final Class<?>[] types;
+        try {
+            final Class<?> superclass = null != _extends ? space.loadClass(_extends.replace('/', '.')) : null;
+            collectSupertypes(superclass, supertypes);
+            for (final String i : _implements) {
+                collectSupertypes(space.loadClass(i.replace('/', '.')), supertypes);
+            }
+            types = getBindingTypes(superclass);
+        } catch (final TypeNotPresentException e) {
+            return false; // load the type as normal to report the problem
+        }
+
+        if (null == types && supertypes.isEmpty()) {
+            return false; // can only be looked up by its own type
+        }
+        if (supertypes.contains(Module.class)
+                || supertypes.contains(Mediator.class)
+                || supertypes.contains(org.sonatype.inject.Mediator.class)
+                || supertypes.contains(Provider.class)) {
+            return false; // these need an instance or their type arguments resolved
+        }
+
+        selectBinder(source);
+
+        final DeferredClass<?> clazz = space.deferLoadClass(name);
+        final Named qualifier = null != bindingName ? Names.named(bindingName) : null;
+        for (final Class<?> bindingType : null != types ? Arrays.asList(types) : supertypes) {
+            binder.bind((Key) WildcardKey.get(bindingType, clazz, qualifier))
+                    .toProvider((DeferredProvider) clazz.asProvider());
+        }
+        return true;
+    }
+
     // ----------------------------------------------------------------------
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Selects the binder to use for bindings from the given source.
+     *
+     * @param source The binding source
+     */
+    private void selectBinder(final Object source) {
+        if (currentSource != source) {
+            if (null != source) {
+                binder = rootBinder.withSource(source);
+                currentSource = source;
+            } else {
+                binder = rootBinder;
+                currentSource = null;
+            }
+        }
+    }
+
     /**
      * Installs an instance of the given {@link Module}.
      *
@@ -209,14 +295,28 @@ public final class QualifiedTypeBinder implements QualifiedTypeListener {
      * @param qualifiedType The qualified type
      */
     private void bindQualifiedType(final Class<?> qualifiedType) {
+        bindQualified(
+                qualifiedType,
+                getBindingName(qualifiedType),
+                getBindingTypes(qualifiedType),
+                isEagerSingleton(qualifiedType));
+    }
+
+    /**
+     * Binds the given qualified type using binding details that were determined ahead of time.
+     *
+     * @param qualifiedType The qualified type
+     * @param bindingName The binding name; {@code null} for the default binding
+     * @param types The binding types; {@code null} to bind under all the type's supertypes
+     * @param eager If set to {@code true} the type is bound as an eager singleton
+     */
+    private void bindQualified(
+            final Class<?> qualifiedType, final Named bindingName, final Class<?>[] types, final boolean eager) {
         final ScopedBindingBuilder sbb = binder.bind(qualifiedType);
-        if (isEagerSingleton(qualifiedType)) {
+        if (eager) {
             sbb.asEagerSingleton();
         }
 
-        final Named bindingName = getBindingName(qualifiedType);
-        final Class<?>[] types = getBindingTypes(qualifiedType);
-
         if (null != types) {
             final Key key = getBindingKey(OBJECT_TYPE_LITERAL, bindingName);
             for (final Class bindingType : types) {
@@ -338,6 +438,14 @@ public final class QualifiedTypeBinder implements QualifiedTypeListener {
         return null;
     }
 
+    private static void collectSupertypes(final Class<?> clazz, final Set<Class<?>> supertypes) {
+        for (Class<?> c = clazz; null != c && c != Object.class && supertypes.add(c); c = c.getSuperclass()) {
+            for (final Class<?> i : c.getInterfaces()) {
+                collectSupertypes(i, supertypes);
+            }
+        }
+    }
+
     private static boolean isSingleton(final Class<?> type) {
         return type.isAnnotationPresent(javax.inject.Singleton.class)
                 || type.isAnnotationPresent(com.google.inject.Singleton.class);
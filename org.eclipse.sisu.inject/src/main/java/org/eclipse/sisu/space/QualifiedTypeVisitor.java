@@ -19,8 +19,26 @@ import org.eclipse.sisu.inject.Logs;
 
 /**
  * {@link SpaceVisitor} that reports types annotated with {@link Qualifier} annotations.
+ * <p>
+ * In deferred mode plain beans are bound straight from their scan metadata, without loading them; see
+ * {@link SpaceModule.Strategy#DEFERRED}.
  */
 public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String JSR330_NAMED_DESC = "Ljavax/inject/Named;";
+
+    private static final String GUICE_NAMED_DESC = "Lcom/google/inject/name/Named;";
+
+    private static final String[] UNDEFERRABLE_DESCS = {
+        "Lorg/eclipse/sisu/EagerSingleton;",
+        "Lorg/sonatype/inject/EagerSingleton;",
+        "Lorg/eclipse/sisu/Typed;",
+        "Ljavax/enterprise/inject/Typed;"
+    };
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -29,6 +47,8 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
 
     private final QualifiedTypeListener listener;
 
+    private final QualifiedTypeBinder deferredBinder;
+
     private ClassSpace space;
 
     private URL location;
@@ -39,6 +59,16 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
 
     private boolean qualified;
 
+    private String superName;
+
+    private String[] interfaceNames;
+
+    private String jsr330Name;
+
+    private String guiceName;
+
+    private boolean deferrable;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -50,6 +80,13 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
     public QualifiedTypeVisitor(final QualifiedTypeListener listener, boolean isStrict) {
         qualifierCache = new QualifierCache(isStrict);
         this.listener = listener;
+        deferredBinder = null;
+    }
+
+    QualifiedTypeVisitor(final QualifiedTypeBinder binder, final boolean isStrict, final boolean isDeferred) {
+        qualifierCache = new QualifierCache(isStrict);
+        listener = binder;
+        deferredBinder = isDeferred ? binder : null;
     }
 
     // ----------------------------------------------------------------------
@@ -89,6 +126,10 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
         clazzName = null;
         qualified = false;
 
+        jsr330Name = null;
+        guiceName = null;
+        deferrable = true;
+
         return this;
     }
 
@@ -96,6 +137,8 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
     public void enterClass(final int modifiers, final String name, final String _extends, final String[] _implements) {
         if ((modifiers & NON_INSTANTIABLE) == 0) {
             clazzName = name; // concrete type
+            superName = _extends;
+            interfaceNames = _implements;
         }
     }
 
@@ -103,6 +146,9 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
     public AnnotationVisitor visitAnnotation(final String desc) {
         if (null != clazzName) {
             qualified = qualified || qualifierCache.qualify(space, desc);
+            if (null != deferredBinder) {
+                return inspectAnnotation(desc);
+            }
         }
         return null;
     }
@@ -114,7 +160,13 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
     @Override
     public void leaveClass() {
         if (qualified) {
-            listener.hear(space.loadClass(clazzName.replace('/', '.')), findSource());
+            final String name = clazzName.replace('/', '.');
+            if (!deferrable
+                    || null == deferredBinder
+                    || !deferredBinder.bindDeferredType(
+                            space, name, getBindingName(name), superName, interfaceNames, findSource())) {
+                listener.hear(space.loadClass(name), findSource());
+            }
         }
     }
 
@@ -127,6 +179,36 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Notes annotations that affect how the current class is bound; only binding names are inspected in detail.
+     */
+    private AnnotationVisitor inspectAnnotation(final String desc) {
+        if (JSR330_NAMED_DESC.equals(desc) || GUICE_NAMED_DESC.equals(desc)) {
+            return new NamedVisitor(JSR330_NAMED_DESC.equals(desc));
+        }
+        for (final String undeferrable : UNDEFERRABLE_DESCS) {
+            if (undeferrable.equals(desc)) {
+                deferrable = false;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines binding name of current class; same rules as {@link QualifiedTypeBinder} but without reflection.
+     */
+    private String getBindingName(final String name) {
+        final String value = null != jsr330Name ? jsr330Name : guiceName;
+        if (null != value && value.length() > 0) {
+            return "default".equals(value) ? null : value;
+        }
+        int i = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1;
+        while (i < name.length() && Character.isDigit(name.charAt(i))) {
+            i++; // skip the numeric prefix of local classes
+        }
+        return name.startsWith("Default", i) ? null : name;
+    }
+
     /**
      * Finds source of current class; detailed location or {@link ClassSpace} string representation.
      */
@@ -143,4 +225,60 @@ public final class QualifiedTypeVisitor implements SpaceVisitor, ClassVisitor {
         }
         return source;
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * {@link AnnotationVisitor} that records the value of {@code @Named} annotations.
+     */
+    private final class NamedVisitor implements AnnotationVisitor {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final boolean isJsr330;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        NamedVisitor(final boolean isJsr330) {
+            this.isJsr330 = isJsr330;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public void enterAnnotation() {
+            setName(""); // value is optional
+        }
+
+        @Override
+        public void visitElement(final String name, final Object value) {
+            if ("value".equals(name) && value instanceof String) {
+                setName((String) value);
+            }
+        }
+
+        @Override
+        public void leaveAnnotation() {
+            // no-op
+        }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        private void setName(final String value) {
+            if (isJsr330) {
+                jsr330Name = value;
+            } else {
+                guiceName = value;
+            }
+        }
+    }
 }
@@ -12,14 +12,24 @@
  */
 package org.eclipse.sisu.space;
 
+import java.net.URL;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.inject.Qualifier;
+import org.eclipse.sisu.inject.Weak;
 
 /**
- * Caching {@link ClassVisitor} that maintains a map of known {@link Qualifier} annotations.
+ * Process-wide cache of known {@link Qualifier} annotations, shared by all scans.
+ * <p>
+ * Each annotation class file is only scanned once, whichever class space it's found in. Results are remembered per
+ * class file location, so identical annotations visible from many class spaces share a single result while different
+ * definitions with the same name are kept apart; only the most recently used locations are remembered. Each class
+ * space also keeps a weakly-keyed memo from descriptor to result, so repeated lookups don't have to locate the class
+ * file again. Class files that can't be read are not remembered, so they're scanned again on the next lookup.
  */
-final class QualifierCache implements ClassVisitor {
+final class QualifierCache {
     // ----------------------------------------------------------------------
     // Constants
     // ----------------------------------------------------------------------
@@ -28,41 +38,50 @@ final class QualifierCache implements ClassVisitor {
 
     private static final String NAMED_DESC = "Ljavax/inject/Named;";
 
+    /**
+     * Common annotations and field types that are never qualifiers; lets {@link QualifierPrefilter} skip their users.
+     */
+    private static final String[] NON_QUALIFIERS = {
+        "Ljavax/inject/Inject;",
+        "Ljavax/inject/Singleton;",
+        "Ljava/lang/Deprecated;",
+        "Ljava/lang/FunctionalInterface;",
+        "Ljava/lang/SafeVarargs;",
+        "Ljava/lang/Object;",
+        "Ljava/lang/String;",
+        "Ljava/lang/Class;"
+    };
+
+    private static final int MAX_DEFINITION_RESULTS = 4096;
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
 
-    private static final Map<String, Boolean> cachedResults = seedResults();
+    private static final Map<String, Boolean> seededResults = seedResults();
+
+    // least-recently-used results, guarded by synchronizing on the map
+    private static final Map<String, Boolean> definitionResults = new LinkedHashMap<String, Boolean>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_DEFINITION_RESULTS;
+        }
+    };
 
-    private boolean isQualified;
+    private static final ConcurrentMap<ClassSpace, ConcurrentMap<String, Boolean>> spaceResults = Weak.concurrentKeys();
 
     private final boolean isStrict;
 
     // ----------------------------------------------------------------------
-    // Public methods
+    // Constructors
     // ----------------------------------------------------------------------
 
-    public QualifierCache(boolean isStrict) {
-        super();
+    QualifierCache(final boolean isStrict) {
         this.isStrict = isStrict;
     }
 
-    @Override
-    public void enterClass(final int modifiers, final String name, final String _extends, final String[] _implements) {
-        // no-op
-    }
-
-    @Override
-    public AnnotationVisitor visitAnnotation(final String desc) {
-        isQualified |= QUALIFIER_DESC.equals(desc);
-        return null;
-    }
-
-    @Override
-    public void leaveClass() {
-        // no-op
-    }
-
     // ----------------------------------------------------------------------
     // Local methods
     // ----------------------------------------------------------------------
@@ -78,26 +97,114 @@ final class QualifierCache implements ClassVisitor {
         if (NAMED_DESC.equals(desc)) {
             return true;
         }
-        final Boolean result = cachedResults.get(desc);
+        final Boolean seeded = seededResults.get(desc);
+        if (null != seeded) {
+            return seeded.booleanValue();
+        }
+        final ConcurrentMap<String, Boolean> results = resultsFor(space);
+        Boolean result = results.get(desc);
         if (null == result) {
-            isQualified = false;
+            final URL url = space.getResource(desc.substring(1, desc.length() - 1) + ".class");
+            if (null != url) {
+                final String location = url.toString();
+                synchronized (definitionResults) {
+                    result = definitionResults.get(location);
+                }
+                if (null == result) {
+                    result = scanForQualifier(url);
+                    if (null == result) {
+                        return false; // couldn't read the class file; don't remember the failure
+                    }
+                    synchronized (definitionResults) {
+                        definitionResults.put(location, result);
+                    }
+                }
+            } else {
+                result = Boolean.FALSE;
+            }
+            results.put(desc, result);
+        }
+        return result.booleanValue();
+    }
 
-            final String name = desc.substring(1, desc.length() - 1);
-            SpaceScanner.accept(this, space.getResource(name + ".class"), isStrict);
-            cachedResults.put(desc, Boolean.valueOf(isQualified));
+    /**
+     * Checks whether the given descriptor is already known not to be a qualifier in the given class space.
+     *
+     * @param space The class space; may be {@code null}
+     * @param desc The type descriptor
+     * @return {@code true} if the descriptor is known not to be a qualifier; otherwise {@code false}
+     */
+    static boolean isKnownNonQualifier(final ClassSpace space, final String desc) {
+        Boolean result = seededResults.get(desc);
+        if (null == result && null != space) {
+            final Map<String, Boolean> results = spaceResults.get(space);
+            result = null != results ? results.get(desc) : null;
+        }
+        return Boolean.FALSE.equals(result);
+    }
 
-            return isQualified;
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Memo of qualifier results for the given class space
+     */
+    private static ConcurrentMap<String, Boolean> resultsFor(final ClassSpace space) {
+        ConcurrentMap<String, Boolean> results = spaceResults.get(space);
+        if (null == results) {
+            final ConcurrentMap<String, Boolean> newResults = new ConcurrentHashMap<>();
+            results = spaceResults.putIfAbsent(space, newResults);
+            if (null == results) {
+                results = newResults;
+            }
         }
-        return result.booleanValue();
+        return results;
     }
 
     /**
-     * Seeds the cache with the fully-qualified names listed in the 'sisu.qualifiers' system property.
+     * Scans the annotation class file at the given location for the {@link Qualifier} meta-annotation.
+     *
+     * @return {@code TRUE} if it's a qualifier; {@code FALSE} if it's not; {@code null} if it couldn't be scanned
+     */
+    private Boolean scanForQualifier(final URL url) {
+        final boolean[] isQualified = {false};
+        final boolean[] isScanned = {false};
+        SpaceScanner.accept(
+                new ClassVisitor() {
+                    @Override
+                    public void enterClass(
+                            final int modifiers, final String name, final String _extends, final String[] _implements) {
+                        // no-op
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(final String desc) {
+                        isQualified[0] |= QUALIFIER_DESC.equals(desc);
+                        return null;
+                    }
+
+                    @Override
+                    public void leaveClass() {
+                        isScanned[0] = true;
+                    }
+                },
+                url,
+                isStrict);
+        return isScanned[0] ? Boolean.valueOf(isQualified[0]) : null;
+    }
+
+    /**
+     * Seeds the cache with common non-qualifiers and the fully-qualified names listed in the 'sisu.qualifiers'
+     * system property.
      *
      * @return Seeded results
      */
     private static Map<String, Boolean> seedResults() {
         final Map<String, Boolean> results = new ConcurrentHashMap<>(32, 0.75f, 1);
+        for (final String desc : NON_QUALIFIERS) {
+            results.put(desc, Boolean.FALSE);
+        }
         try {
             final String qualifiers = System.getProperty("sisu.qualifiers");
             if (qualifiers != null && qualifiers.length() > 0) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.nio.charset.StandardCharsets;
+import javax.inject.Qualifier;
+
+/**
+ * Scans the constant pool of a class file to rule out classes that can't carry a {@link Qualifier} annotation.
+ * <p>
+ * A class can only be qualified when its constant pool names an annotations attribute and contains the descriptor of
+ * each annotation it uses. Classes are rejected when they have no annotations attribute at all, or when every type
+ * descriptor in their pool is already known not to be a qualifier. Anything unexpected in the class file lets it
+ * through to the full parse, so the filter never rejects a qualified class.
+ */
+final class QualifierPrefilter {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final byte[] VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] INVISIBLE_ANNOTATIONS =
+            "RuntimeInvisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private QualifierPrefilter() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Utility methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Decides whether the given class file might carry a qualifier annotation.
+     *
+     * @param space The class space containing the class; may be {@code null}
+     * @param b The class file bytes
+     * @return {@code false} if the class definitely has no qualifier annotation; otherwise {@code true}
+     */
+    static boolean mayBeQualified(final ClassSpace space, final byte[] b) {
+        try {
+            if (readInt(b, 0) != CLASS_MAGIC) {
+                return true; // let the full parse report the problem
+            }
+            boolean annotated = false;
+            boolean unknownType = false;
+            int pos = 10;
+            for (int i = 1, count = readUnsignedShort(b, 8); i < count; i++) {
+                switch (b[pos]) {
+                    case 1: // Utf8
+                        final int start = pos + 3;
+                        final int length = readUnsignedShort(b, pos + 1);
+                        if (matches(b, start, length, VISIBLE_ANNOTATIONS)
+                                || matches(b, start, length, INVISIBLE_ANNOTATIONS)) {
+                            annotated = true;
+                        } else if (!unknownType && isTypeDescriptor(b, start, length)) {
+                            unknownType = !isKnownNonQualifier(space, b, start, length);
+                        }
+                        if (annotated && unknownType) {
+                            return true;
+                        }
+                        pos = start + length;
+                        break;
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        pos += 3;
+                        break;
+                    case 15: // MethodHandle
+                        pos += 4;
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        pos += 5;
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        pos += 9;
+                        i++; // takes two slots
+                        break;
+                    default:
+                        return true; // unknown constant, let the full parse decide
+                }
+            }
+            return false;
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            return true; // truncated class, let the full parse report the problem
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static boolean matches(final byte[] b, final int start, final int length, final byte[] text) {
+        if (length != text.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (b[start + i] != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTypeDescriptor(final byte[] b, final int start, final int length) {
+        return length > 2 && b[start] == 'L' && b[start + length - 1] == ';';
+    }
+
+    private static boolean isKnownNonQualifier(
+            final ClassSpace space, final byte[] b, final int start, final int length) {
+        for (int i = start, end = start + length; i < end; i++) {
+            if (b[i] < 0) {
+                return false; // not plain ASCII, leave it to the full parse
+            }
+        }
+        return QualifierCache.isKnownNonQualifier(space, new String(b, start, length, StandardCharsets.US_ASCII));
+    }
+
+    private static int readUnsignedShort(final byte[] b, final int pos) {
+        return (b[pos] & 0xFF) << 8 | b[pos + 1] & 0xFF;
+    }
+
+    private static int readInt(final byte[] b, final int pos) {
+        return (b[pos] & 0xFF) << 24 | (b[pos + 1] & 0xFF) << 16 | (b[pos + 2] & 0xFF) << 8 | b[pos + 3] & 0xFF;
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.sisu.inject.Logs;
+
+/**
+ * Recording of a class header and its class-level annotations; can be replayed to any {@link ClassVisitor}.
+ * <p>
+ * Recordings are captured from class files with ASM or from another {@link ClassVisitor}, and can be saved to and
+ * restored from the binary Sisu index.
+ */
+final class RecordedClass implements ClassVisitor {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    /**
+     * Suffix of the binary table that sits next to each text index table.
+     */
+    static final String BINARY_SUFFIX = ".bin";
+
+    private static final int BINARY_MAGIC = 0x53495355; // "SISU"
+
+    private static final int BINARY_VERSION = 1;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private URL url;
+
+    private URL context;
+
+    private String prefix;
+
+    private final List<RecordedAnnotation> annotations = new ArrayList<>();
+
+    private int access;
+
+    private String name;
+
+    private String superName;
+
+    private String[] interfaces;
+
+    private Exception problem;
+
+    private boolean skipped;
+
+    private boolean restored;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    /**
+     * Creates an empty recording, to be filled in by {@link ClassVisitor} callbacks.
+     *
+     * @param url The class resource URL
+     */
+    RecordedClass(final URL url) {
+        this.url = url;
+    }
+
+    /**
+     * Records the class contained in the resource {@link URL}.
+     *
+     * @param url The class resource URL
+     * @param filterSpace If set skips classes that can't carry a qualifier annotation in this space
+     */
+    RecordedClass(final URL url, final ClassSpace filterSpace) {
+        this(url);
+        if (null == url) {
+            skipped = true; // nothing to visit
+        } else {
+            try {
+                final byte[] bytes = SpaceScanner.readClass(url);
+                if (null == filterSpace || QualifierPrefilter.mayBeQualified(filterSpace, bytes)) {
+                    SpaceScanner.parseClass(this, bytes);
+                } else {
+                    skipped = true;
+                }
+            } catch (final IOException | RuntimeException e) {
+                problem = e;
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public void enterClass(final int modifiers, final String _name, final String _extends, final String[] _implements) {
+        access = modifiers;
+        name = _name;
+        superName = _extends;
+        interfaces = null != _implements ? _implements : new String[0];
+    }
+
+    @Override
+    public RecordedAnnotation visitAnnotation(final String desc) {
+        final RecordedAnnotation annotation = new RecordedAnnotation(desc);
+        annotations.add(annotation);
+        return annotation;
+    }
+
+    @Override
+    public void leaveClass() {
+        // no-op
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return The internal name of the recorded class, such as "javax/inject/Provider"
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the class resource URL; for restored recordings this is only resolved on first request.
+     *
+     * @return The class resource URL; {@code null} if it's unknown
+     */
+    URL url() {
+        if (null == url && null != context) {
+            try {
+                url = new URL(context, prefix + name + ".class");
+            } catch (final MalformedURLException e) {
+                Logs.debug("Problem locating: {}", name, e);
+            }
+            context = null;
+        }
+        return url;
+    }
+
+    /**
+     * @param location The class resource URL resolved by the class space; may be {@code null}
+     * @return {@code true} if the recorded class is found at the given location; otherwise {@code false}
+     */
+    boolean isLocatedAt(final URL location) {
+        final URL recordedURL = url();
+        return null != location
+                && null != recordedURL
+                && location.toExternalForm().equals(recordedURL.toExternalForm());
+    }
+
+    /**
+     * @return {@code true} if this recording was restored from a binary table; otherwise {@code false}
+     */
+    boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * Replays the recorded class to the given {@link ClassVisitor}, reporting any problem reading the class.
+     *
+     * @param visitor The class visitor
+     * @param isStrict If set to {@code true} throws {@link RuntimeException} in case of parsing issues
+     */
+    void replay(final ClassVisitor visitor, final boolean isStrict) {
+        if (skipped) {
+            return; // nothing to visit
+        }
+        if (null != problem) {
+            if (isStrict) {
+                throw new IllegalStateException("Problem scanning " + url(), problem);
+            }
+            Logs.debug("Problem scanning: {}", url(), problem);
+            return;
+        }
+        visitor.enterClass(access, name, superName, interfaces.clone());
+        for (final RecordedAnnotation annotation : annotations) {
+            annotation.replay(visitor);
+        }
+        visitor.leaveClass();
+    }
+
+    /**
+     * @return {@code true} if the recording can be saved in the binary index; otherwise {@code false}
+     */
+    boolean isWritable() {
+        if (null == name || null != problem || skipped) {
+            return false;
+        }
+        for (final RecordedAnnotation annotation : annotations) {
+            if (!annotation.isWritable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Saves the given recordings as a binary table.
+     *
+     * @param out The binary table output
+     * @param classes The recordings
+     */
+    static void writeTable(final OutputStream out, final Collection<RecordedClass> classes) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(BINARY_MAGIC);
+        data.writeShort(BINARY_VERSION);
+        data.writeInt(classes.size());
+        for (final RecordedClass clazz : classes) {
+            clazz.write(data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Restores recordings saved as a binary table; tables written in an unknown version are ignored.
+     *
+     * @param in The binary table input
+     * @param context The URL of the binary table; may be {@code null}
+     * @param prefix The prefix that maps class resource names to URLs relative to the table; may be {@code null}
+     * @return Restored recordings
+     */
+    static List<RecordedClass> readTable(final InputStream in, final URL context, final String prefix)
+            throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (BINARY_MAGIC != data.readInt()) {
+            throw new IOException("Not a binary Sisu index");
+        }
+        if (BINARY_VERSION != data.readUnsignedShort()) {
+            return Collections.emptyList(); // written by a newer version, fall back to the text index
+        }
+        final int size = data.readInt();
+        final List<RecordedClass> classes = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            final RecordedClass clazz = read(data);
+            clazz.context = context; // resolved on demand
+            clazz.prefix = prefix;
+            classes.add(clazz);
+        }
+        return classes;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Saves the recording in binary form.
+     *
+     * @param out The binary output
+     */
+    private void write(final DataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeInt(access);
+        out.writeUTF(null != superName ? superName : "");
+        out.writeShort(interfaces.length);
+        for (final String i : interfaces) {
+            out.writeUTF(i);
+        }
+        out.writeShort(annotations.size());
+        for (final RecordedAnnotation annotation : annotations) {
+            annotation.write(out);
+        }
+    }
+
+    /**
+     * Restores a recording saved in binary form.
+     *
+     * @param in The binary input
+     * @return Restored recording
+     */
+    private static RecordedClass read(final DataInput in) throws IOException {
+        final RecordedClass clazz = new RecordedClass(null);
+        clazz.restored = true;
+        clazz.name = in.readUTF();
+        clazz.access = in.readInt();
+        final String superName = in.readUTF();
+        clazz.superName = superName.isEmpty() ? null : superName;
+        clazz.interfaces = new String[in.readUnsignedShort()];
+        for (int i = 0; i < clazz.interfaces.length; i++) {
+            clazz.interfaces[i] = in.readUTF();
+        }
+        for (int i = 0, size = in.readUnsignedShort(); i < size; i++) {
+            clazz.annotations.add(RecordedAnnotation.read(in));
+        }
+        return clazz;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Recording of an annotation and its simple elements; nested values are skipped like the regular adapter.
+     */
+    static final class RecordedAnnotation implements AnnotationVisitor {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final String desc;
+
+        private final List<Object> elements = new ArrayList<>(); // alternating names and values
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        RecordedAnnotation(final String desc) {
+            this.desc = desc;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public void enterAnnotation() {
+            // no-op
+        }
+
+        @Override
+        public void visitElement(final String name, final Object value) {
+            elements.add(name);
+            elements.add(value);
+        }
+
+        @Override
+        public void leaveAnnotation() {
+            // no-op
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        void replay(final ClassVisitor visitor) {
+            final AnnotationVisitor av = visitor.visitAnnotation(desc);
+            if (null != av) {
+                av.enterAnnotation();
+                for (int i = 0, size = elements.size(); i < size; i += 2) {
+                    av.visitElement((String) elements.get(i), elements.get(i + 1));
+                }
+                av.leaveAnnotation();
+            }
+        }
+
+        boolean isWritable() {
+            for (int i = 1, size = elements.size(); i < size; i += 2) {
+                if (0 == tagOf(elements.get(i))) {
+                    return false; // arrays are not supported
+                }
+            }
+            return true;
+        }
+
+        void write(final DataOutput out) throws IOException {
+            out.writeUTF(desc);
+            out.writeShort(elements.size() / 2);
+            for (int i = 0, size = elements.size(); i < size; i += 2) {
+                out.writeUTF((String) elements.get(i));
+                final Object value = elements.get(i + 1);
+                final char tag = tagOf(value);
+                out.writeByte(tag);
+                switch (tag) {
+                    case 's':
+                        out.writeUTF((String) value);
+                        break;
+                    case 'Z':
+                        out.writeBoolean(((Boolean) value).booleanValue());
+                        break;
+                    case 'B':
+                        out.writeByte(((Byte) value).byteValue());
+                        break;
+                    case 'C':
+                        out.writeChar(((Character) value).charValue());
+                        break;
+                    case 'S':
+                        out.writeShort(((Short) value).shortValue());
+                        break;
+                    case 'I':
+                        out.writeInt(((Integer) value).intValue());
+                        break;
+                    case 'J':
+                        out.writeLong(((Long) value).longValue());
+                        break;
+                    case 'F':
+                        out.writeFloat(((Float) value).floatValue());
+                        break;
+                    default:
+                        out.writeDouble(((Double) value).doubleValue());
+                        break;
+                }
+            }
+        }
+
+        static RecordedAnnotation read(final DataInput in) throws IOException {
+            final RecordedAnnotation annotation = new RecordedAnnotation(in.readUTF());
+            for (int i = 0, size = in.readUnsignedShort(); i < size; i++) {
+                final String name = in.readUTF();
+                final Object value;
+                switch (in.readByte()) {
+                    case 's':
+                        value = in.readUTF();
+                        break;
+                    case 'Z':
+                        value = Boolean.valueOf(in.readBoolean());
+                        break;
+                    case 'B':
+                        value = Byte.valueOf(in.readByte());
+                        break;
+                    case 'C':
+                        value = Character.valueOf(in.readChar());
+                        break;
+                    case 'S':
+                        value = Short.valueOf(in.readShort());
+                        break;
+                    case 'I':
+                        value = Integer.valueOf(in.readInt());
+                        break;
+                    case 'J':
+                        value = Long.valueOf(in.readLong());
+                        break;
+                    case 'F':
+                        value = Float.valueOf(in.readFloat());
+                        break;
+                    case 'D':
+                        value = Double.valueOf(in.readDouble());
+                        break;
+                    default:
+                        throw new IOException("Unknown element tag");
+                }
+                annotation.visitElement(name, value);
+            }
+            return annotation;
+        }
+
+        private static char tagOf(final Object value) {
+            if (value instanceof String) {
+                return 's';
+            }
+            if (value instanceof Boolean) {
+                return 'Z';
+            }
+            if (value instanceof Byte) {
+                return 'B';
+            }
+            if (value instanceof Character) {
+                return 'C';
+            }
+            if (value instanceof Short) {
+                return 'S';
+            }
+            if (value instanceof Integer) {
+                return 'I';
+            }
+            if (value instanceof Long) {
+                return 'J';
+            }
+            if (value instanceof Float) {
+                return 'F';
+            }
+            if (value instanceof Double) {
+                return 'D';
+            }
+            return 0;
+        }
+    }
+}
@@ -49,6 +49,8 @@ final class ResourceEnumeration implements Enumeration<URL> {
 
     private final String globPattern;
 
+    private final String scanPrefix;
+
     private final boolean recurse;
 
     private int index;
@@ -79,6 +81,7 @@ final class ResourceEnumeration implements Enumeration<URL> {
         globber = GlobberStrategy.selectFor(glob);
         globPattern = globber.compile(glob);
         this.recurse = recurse;
+        scanPrefix = recurse ? this.subPath : this.subPath + literalPrefix(globber, globPattern);
         this.urls = urls;
     }
 
@@ -153,6 +156,25 @@ final class ResourceEnumeration implements Enumeration<URL> {
         return buf.toString();
     }
 
+    /**
+     * Returns the literal text that every basename matched by the compiled glob pattern must start with.
+     *
+     * @param globber The globber strategy
+     * @param globPattern The compiled glob pattern
+     * @return Literal basename prefix; empty if the pattern starts with a wildcard
+     */
+    private static String literalPrefix(final GlobberStrategy globber, final String globPattern) {
+        switch (globber) {
+            case PREFIX:
+            case EXACT:
+                return globPattern;
+            case PATTERN:
+                return globPattern.substring(0, globPattern.indexOf('*'));
+            default:
+                return "";
+        }
+    }
+
     /**
      * Returns the appropriate {@link Iterator} to iterate over the contents of the given URL.
      *
@@ -176,7 +198,7 @@ final class ResourceEnumeration implements Enumeration<URL> {
             return NO_ENTRIES;
         }
 
-        return isFolder ? new FileEntryIterator(url, subPath, recurse) : new ZipEntryIterator(url);
+        return isFolder ? new FileEntryIterator(url, subPath, recurse) : new ZipEntryIterator(url, scanPrefix);
     }
 
     /**
@@ -228,6 +250,8 @@ final class ResourceEnumeration implements Enumeration<URL> {
 
     /**
      * Custom {@link URLConnection} that can access JARs nested inside an arbitrary resource.
+     * <p>
+     * Entries are read through a cached {@link NestedJarIndex}, so each access is independent of the entry's position.
      */
     static final class NestedJarConnection extends URLConnection {
         NestedJarConnection(final URL url) {
@@ -242,8 +266,17 @@ final class ResourceEnumeration implements Enumeration<URL> {
         @Override
         public InputStream getInputStream() throws IOException {
             final URL containingURL = new URL("jar", null, -1, url.getFile());
-            final ZipInputStream is = new ZipInputStream(Streams.open(containingURL)); // NOSONAR
             final String entryName = url.getRef();
+            try {
+                return NestedJarIndex.forURL(containingURL).getInputStream(entryName);
+            } catch (final IOException e) {
+                // fall back to streaming, which can cope with unusual layouts such as prefixed archives
+                return streamEntry(containingURL, entryName);
+            }
+        }
+
+        private static InputStream streamEntry(final URL containingURL, final String entryName) throws IOException {
+            final ZipInputStream is = new ZipInputStream(Streams.open(containingURL)); // NOSONAR
 
             for (ZipEntry entry = is.getNextEntry(); entry != null; entry = is.getNextEntry()) // NOSONAR
             {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs blocking class path I/O, such as reading class files and manifests, on a dedicated pool of daemon threads.
+ * <p>
+ * The pool is bounded by the number of CPUs and releases idle threads, so scanning never ties up the common
+ * {@link java.util.concurrent.ForkJoinPool}. Callers help out by running any task that hasn't started yet when they
+ * need its result, so waiting on a task from inside the pool can't deadlock.
+ */
+final class ScanTasks {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private ScanTasks() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Utility methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Maximum number of tasks that can run at the same time
+     */
+    static int parallelism() {
+        return Holder.EXECUTOR.getMaximumPoolSize();
+    }
+
+    /**
+     * Submits the given task to the scanning pool.
+     *
+     * @param task The task
+     * @return Pending result
+     */
+    static <T> FutureTask<T> submit(final Callable<T> task) {
+        final FutureTask<T> future = new FutureTask<>(task);
+        Holder.EXECUTOR.execute(future);
+        return future;
+    }
+
+    /**
+     * Waits for the result of the given task, running it on the current thread if it hasn't started yet.
+     *
+     * @param future The pending result
+     * @return Task result
+     */
+    static <T> T join(final FutureTask<T> future) {
+        future.run(); // no-op if the pool has already started it
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException e) {
+                    interrupted = true; // keep waiting, the task is already running
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Lazy holder of the shared pool, so it's only created when something is scanned in parallel.
+     */
+    private static final class Holder {
+        static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            final int threads = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+            EXECUTOR = new ThreadPoolExecutor(
+                    threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                        final Thread thread = new Thread(task, "sisu-scan");
+                        thread.setDaemon(true);
+                        thread.setContextClassLoader(null); // don't pin whichever loader started the pool
+                        return thread;
+                    });
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+}
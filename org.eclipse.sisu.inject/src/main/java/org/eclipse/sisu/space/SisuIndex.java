@@ -16,7 +16,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
@@ -31,7 +33,8 @@ import org.eclipse.sisu.inject.Logs;
 /**
  * Command-line utility that generates a qualified class index for a space-separated list of JARs.
  * <p>
- * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}.
+ * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}, along with their
+ * class headers and annotations recorded in {@code META-INF/sisu/javax.inject.Named.bin}.
  *
  * @see <a href="http://eclipse.org/sisu/docs/api/org.eclipse.sisu.mojos/">sisu-maven-plugin</a>
  */
@@ -48,6 +51,10 @@ public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassV
 
     private String clazzName;
 
+    private RecordedClass clazzRecord;
+
+    private boolean qualified;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -104,20 +111,31 @@ public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassV
             final int modifiers, final String name, final String _extends, final String[] _implements) {
         if ((modifiers & NON_INSTANTIABLE) == 0) {
             clazzName = name; // concrete type
+            clazzRecord = new RecordedClass(null);
+            clazzRecord.enterClass(modifiers, name, _extends, _implements);
         }
     }
 
     @Override
     public final AnnotationVisitor visitAnnotation(final String desc) {
-        if (null != clazzName && qualifierCache.qualify(space, desc)) {
+        if (null == clazzName) {
+            return null;
+        }
+        if (qualifierCache.qualify(space, desc)) {
             addClassToIndex(NAMED, clazzName.replace('/', '.'));
+            qualified = true;
         }
-        return null;
+        return clazzRecord.visitAnnotation(desc);
     }
 
     @Override
     public final void leaveClass() {
+        if (qualified) {
+            addClassRecord(NAMED, clazzRecord);
+        }
         clazzName = null;
+        clazzRecord = null;
+        qualified = false;
     }
 
     @Override
@@ -153,4 +171,19 @@ public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassV
         }
         throw new IOException("Error creating: " + parent);
     }
+
+    @Override
+    protected InputStream getInputStream(final String path) throws IOException {
+        return new FileInputStream(new File(targetDirectory, path));
+    }
+
+    @Override
+    protected OutputStream getOutputStream(final String path) throws IOException {
+        final File index = new File(targetDirectory, path);
+        final File parent = index.getParentFile();
+        if (parent.isDirectory() || parent.mkdirs()) {
+            return new FileOutputStream(index);
+        }
+        throw new IOException("Error creating: " + parent);
+    }
 }
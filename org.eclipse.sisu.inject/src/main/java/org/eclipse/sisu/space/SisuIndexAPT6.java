@@ -12,13 +12,21 @@
  */
 package org.eclipse.sisu.space;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.processing.Completion;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -26,9 +34,15 @@ import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
@@ -37,7 +51,12 @@ import javax.tools.StandardLocation;
 /**
  * Java 6 Annotation {@link Processor} that generates a qualified class index for the current build.
  * <p>
- * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}.
+ * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}, along with their
+ * class headers and annotations recorded in {@code META-INF/sisu/javax.inject.Named.bin}.
+ * <p>
+ * When the {@code sisu.module} option names a class, a Guice module of that name is also generated. It binds the
+ * indexed classes with binding details worked out at build time, and is listed in
+ * {@code META-INF/sisu/javax.inject.Named.module} so {@link SpaceModule} can install it instead of scanning them.
  *
  * @see <a href="http://eclipse.org/sisu/docs/api/org.eclipse.sisu.mojos/">sisu-maven-plugin</a>
  */
@@ -62,12 +81,16 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
 
     private static final String QUALIFIERS = "sisu.qualifiers";
 
+    private static final String MODULE = "sisu.module";
+
     private static final String ALL = "all";
 
     private static final String NONE = "none";
 
     private static final boolean HAS_QUALIFIER;
 
+    private static final String OBJECT = "java/lang/Object";
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -76,6 +99,10 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
 
     private String qualifiers;
 
+    private String moduleName;
+
+    private Set<String> moduleBindings;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -87,6 +114,10 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
         if (null == qualifiers) {
             qualifiers = System.getProperty(QUALIFIERS);
         }
+        moduleName = _environment.getOptions().get(MODULE);
+        if (null == moduleName) {
+            moduleName = System.getProperty(MODULE);
+        }
     }
 
     @Override
@@ -97,6 +128,10 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
                 for (final Element elem : round.getElementsAnnotatedWith(anno)) {
                     if (elem.getKind().isClass()) {
                         addClassToIndex(NAMED, elementUtils.getBinaryName((TypeElement) elem));
+                        final RecordedClass record = recordClass((TypeElement) elem);
+                        if (null != record) {
+                            addClassRecord(NAMED, record);
+                        }
                     }
                 }
             }
@@ -104,6 +139,11 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
 
         if (round.processingOver()) {
             flushIndex();
+            if (null != moduleBindings) {
+                writeModuleTable();
+            }
+        } else if (null != moduleName && !moduleName.isEmpty() && null == moduleBindings) {
+            generateModule(); // generate early so the module gets compiled in a following round
         }
 
         return false;
@@ -138,7 +178,7 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
 
     @Override
     public Set<String> getSupportedOptions() {
-        return Collections.singleton(QUALIFIERS);
+        return new HashSet<>(Arrays.asList(QUALIFIERS, MODULE));
     }
 
     @Override
@@ -150,6 +190,11 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
     // Customized methods
     // ----------------------------------------------------------------------
 
+    @Override
+    boolean hasModuleTable(final Object name) {
+        return NAMED.equals(name) && null != moduleBindings && moduleBindings.equals(getIndexedClasses(NAMED));
+    }
+
     @Override
     protected void info(final String msg) {
         environment.getMessager().printMessage(Diagnostic.Kind.NOTE, msg);
@@ -174,10 +219,153 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
                 .openWriter();
     }
 
+    @Override
+    protected InputStream getInputStream(final String path) throws IOException {
+        return environment
+                .getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", path)
+                .openInputStream();
+    }
+
+    @Override
+    protected OutputStream getOutputStream(final String path) throws IOException {
+        return environment
+                .getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", path)
+                .openOutputStream();
+    }
+
     // ----------------------------------------------------------------------
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Generates the binding module for the classes indexed so far.
+     */
+    private void generateModule() {
+        moduleBindings = getIndexedClasses(NAMED);
+        try (Writer writer = environment.getFiler().createSourceFile(moduleName).openWriter()) {
+            new BindingModuleGenerator(environment).generate(moduleName, moduleBindings, writer);
+        } catch (final IOException e) {
+            warn(e.toString());
+            moduleBindings = null;
+        }
+    }
+
+    /**
+     * Lists the generated module next to the index, but only if it binds every indexed class.
+     */
+    private void writeModuleTable() {
+        if (!moduleBindings.equals(getIndexedClasses(NAMED))) {
+            warn("Classes indexed after generating " + moduleName + " will be scanned at runtime");
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(getWriter(INDEX_FOLDER + NAMED + MODULE_SUFFIX))) {
+            // first line names the module, followed by the classes that it binds
+            writer.write(moduleName);
+            writer.newLine();
+            for (final String name : moduleBindings) {
+                writer.write(name);
+                writer.newLine();
+            }
+        } catch (final IOException e) {
+            warn(e.toString());
+        }
+    }
+
+    /**
+     * Records what scanning the compiled class would see: its header and the class-level annotations that are kept
+     * in the class file, with explicit element values. Enum, array, and nested annotation values are left out as they
+     * are not reported to {@link AnnotationVisitor}s.
+     *
+     * @param type The annotated type
+     * @return Recorded class; {@code null} if it cannot be recorded
+     */
+    private RecordedClass recordClass(final TypeElement type) {
+        final String name = internalName(type);
+        final TypeMirror superclass = type.getSuperclass();
+        final String superName;
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            superName = internalName((TypeElement) ((DeclaredType) superclass).asElement());
+        } else {
+            superName = OBJECT.equals(name) ? null : OBJECT;
+        }
+        final List<? extends TypeMirror> interfaces = type.getInterfaces();
+        final String[] interfaceNames = new String[interfaces.size()];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaceNames[i] = internalName((TypeElement) ((DeclaredType) interfaces.get(i)).asElement());
+        }
+
+        final RecordedClass clazz = new RecordedClass(null);
+        clazz.enterClass(accessFlags(type), name, superName, interfaceNames);
+        for (final AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            final TypeElement annoType =
+                    (TypeElement) mirror.getAnnotationType().asElement();
+            final Retention retention = annoType.getAnnotation(Retention.class);
+            if (null != retention && RetentionPolicy.SOURCE == retention.value()) {
+                continue; // not kept in the class file
+            }
+            final AnnotationVisitor annotation = clazz.visitAnnotation('L' + internalName(annoType) + ';');
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> element :
+                    mirror.getElementValues().entrySet()) {
+                Object value = element.getValue().getValue();
+                if (value instanceof TypeMirror) {
+                    final TypeMirror typeValue = (TypeMirror) value;
+                    if (typeValue.getKind() == TypeKind.DECLARED) {
+                        value = environment
+                                .getElementUtils()
+                                .getBinaryName((TypeElement) ((DeclaredType) typeValue).asElement())
+                                .toString();
+                    } else if (typeValue.getKind().isPrimitive() || typeValue.getKind() == TypeKind.VOID) {
+                        value = typeValue.toString();
+                    } else {
+                        return null; // array types are named differently in class files
+                    }
+                }
+                if (value instanceof String
+                        || value instanceof Number
+                        || value instanceof Boolean
+                        || value instanceof Character) {
+                    annotation.visitElement(element.getKey().getSimpleName().toString(), value);
+                }
+            }
+            annotation.leaveAnnotation();
+        }
+        clazz.leaveClass();
+        return clazz;
+    }
+
+    private String internalName(final TypeElement type) {
+        return environment.getElementUtils().getBinaryName(type).toString().replace('.', '/');
+    }
+
+    private static int accessFlags(final TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        int access = 0;
+        if (modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.PROTECTED)) {
+            access |= 0x0001; // ACC_PUBLIC
+        }
+        if (modifiers.contains(Modifier.FINAL)) {
+            access |= 0x0010; // ACC_FINAL
+        }
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            access |= 0x0400; // ACC_ABSTRACT
+        }
+        final ElementKind kind = type.getKind();
+        if (kind == ElementKind.INTERFACE || kind == ElementKind.ANNOTATION_TYPE) {
+            access |= 0x0200 | 0x0400; // ACC_INTERFACE | ACC_ABSTRACT
+            if (kind == ElementKind.ANNOTATION_TYPE) {
+                access |= 0x2000; // ACC_ANNOTATION
+            }
+        } else {
+            access |= 0x0020; // ACC_SUPER
+            if (kind == ElementKind.ENUM) {
+                access |= 0x4000; // ACC_ENUM
+            }
+        }
+        return access;
+    }
+
     private static boolean hasQualifier(final TypeElement anno) {
         if (HAS_QUALIFIER) {
             return null != anno.getAnnotation(javax.inject.Qualifier.class);
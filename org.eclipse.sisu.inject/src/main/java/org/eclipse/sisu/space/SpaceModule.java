@@ -21,13 +21,19 @@ import com.google.inject.spi.Elements;
 import com.google.inject.spi.MembersInjectorLookup;
 import com.google.inject.spi.PrivateElements;
 import com.google.inject.spi.ProviderLookup;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import javax.inject.Qualifier;
 
 /**
  * Guice {@link Module} that automatically binds types annotated with {@link Qualifier} annotations.
+ * <p>
+ * When using an index with the default strategy, modules generated by {@link SisuIndexAPT6} are installed in place of
+ * scanning the classes they bind.
  */
 public final class SpaceModule implements Module {
     // ----------------------------------------------------------------------
@@ -62,6 +68,11 @@ public final class SpaceModule implements Module {
      */
     private final boolean isStrict;
 
+    /**
+     * If set to {@code true} will read and parse classes in parallel
+     */
+    private final boolean isParallel;
+
     private Strategy strategy = Strategy.DEFAULT;
 
     // ----------------------------------------------------------------------
@@ -95,6 +106,7 @@ public final class SpaceModule implements Module {
         this.space = space;
         this.finder = finder;
         this.isStrict = isStrict;
+        isParallel = false;
     }
 
     /**
@@ -110,6 +122,7 @@ public final class SpaceModule implements Module {
 
     public SpaceModule(final ClassSpace space, final BeanScanning scanning, boolean isStrict) {
         caching = BeanScanning.CACHE == scanning;
+        isParallel = BeanScanning.PARALLEL == scanning;
         this.space = space;
         switch (scanning) {
             case OFF:
@@ -121,6 +134,9 @@ public final class SpaceModule implements Module {
             case GLOBAL_INDEX:
                 finder = GLOBAL_INDEX;
                 break;
+            case PERSISTENT_CACHE:
+                finder = new CachedClassFinder();
+                break;
             default:
                 finder = LOCAL_SCAN;
                 break;
@@ -189,6 +205,21 @@ public final class SpaceModule implements Module {
                 return new QualifiedTypeVisitor(new QualifiedTypeBinder(binder), true);
             }
         };
+
+        /**
+         * Same as {@link #DEFAULT} but plain beans are bound to deferred classes, using the name and supertypes found
+         * while scanning. Each bean is only loaded when a matching binding is first looked up, and only constructed
+         * when first provisioned.
+         * <p>
+         * Deferred beans are bound under their supertypes, not their own type or {@link Object}. Eager singletons,
+         * {@code @Typed} beans, modules, mediators, and providers are loaded and bound as normal.
+         */
+        Strategy DEFERRED = new Strategy() {
+            @Override
+            public SpaceVisitor visitor(final Binder binder) {
+                return new QualifiedTypeVisitor(new QualifiedTypeBinder(binder), false, true);
+            }
+        };
     }
 
     // ----------------------------------------------------------------------
@@ -196,7 +227,26 @@ public final class SpaceModule implements Module {
     // ----------------------------------------------------------------------
 
     void scanForElements(final Binder binder) {
-        new SpaceScanner(space, finder, isStrict).accept(strategy.visitor(binder));
+        if (finder instanceof IndexedClassFinder
+                && (Strategy.DEFAULT == strategy || Strategy.DEFAULT_STRICT == strategy)) {
+            // generated modules bind the same way as the default strategy, so we can use them instead of scanning
+            final Map<Class<?>, Object> modules = new LinkedHashMap<>();
+            final ClassFinder remaining = _space -> ((IndexedClassFinder) finder).findClasses(_space, modules);
+            new SpaceScanner(space, remaining, isStrict, isParallel).accept(strategy.visitor(binder));
+            for (final Entry<Class<?>, Object> entry : modules.entrySet()) {
+                installGeneratedModule(binder.withSource(entry.getValue()), entry.getKey());
+            }
+        } else {
+            new SpaceScanner(space, finder, isStrict, isParallel).accept(strategy.visitor(binder));
+        }
+    }
+
+    private static void installGeneratedModule(final Binder binder, final Class<?> moduleType) {
+        try {
+            binder.install((Module) moduleType.getDeclaredConstructor().newInstance());
+        } catch (final LinkageError | Exception e) {
+            binder.addError("Error installing generated module: " + moduleType + " reason: " + e);
+        }
     }
 
     private void recordAndReplayElements(final Binder binder) {
@@ -16,7 +16,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.concurrent.FutureTask;
 import org.eclipse.sisu.inject.Logs;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
@@ -30,7 +34,9 @@ public final class SpaceScanner {
     // Constants
     // ----------------------------------------------------------------------
 
-    private static final int ASM_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+    static final int ASM_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    private static final int READ_AHEAD = 8; // maximum tasks per thread that can be waiting to be visited
 
     static final ClassFinder DEFAULT_FINDER = new DefaultClassFinder();
 
@@ -47,14 +53,39 @@ public final class SpaceScanner {
      */
     private final boolean isStrict;
 
+    /**
+     * If set to {@code true} will read and parse classes in parallel before visiting them in order.
+     */
+    private final boolean isParallel;
+
+    /**
+     * If set to {@code true} will skip classes that can't be qualified when visiting with {@link QualifiedTypeVisitor}.
+     */
+    private final boolean isPrefiltered;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
 
-    public SpaceScanner(final ClassSpace space, final ClassFinder finder, boolean isStrict) {
+    public SpaceScanner(final ClassSpace space, final ClassFinder finder, boolean isStrict, final boolean isParallel) {
+        this(space, finder, isStrict, isParallel, true);
+    }
+
+    SpaceScanner(
+            final ClassSpace space,
+            final ClassFinder finder,
+            final boolean isStrict,
+            final boolean isParallel,
+            final boolean isPrefiltered) {
         this.space = space;
         this.finder = finder;
         this.isStrict = isStrict;
+        this.isParallel = isParallel;
+        this.isPrefiltered = isPrefiltered;
+    }
+
+    public SpaceScanner(final ClassSpace space, final ClassFinder finder, boolean isStrict) {
+        this(space, finder, isStrict, false);
     }
 
     /**
@@ -87,17 +118,36 @@ public final class SpaceScanner {
 
     /**
      * Makes the given {@link SpaceVisitor} visit the {@link ClassSpace} of this scanner.
+     * <p>
+     * Parallel scanners read and parse classes on a dedicated pool of I/O threads, but the visitor is still called
+     * from the current thread in the same order as sequential scanners. They scan sequentially on single CPU hosts.
+     * <p>
+     * When the visitor is a {@link QualifiedTypeVisitor} the constant pool of each class is checked first, and classes
+     * that can't carry a qualifier annotation are not parsed or visited.
+     * <p>
+     * Classes recorded in a binary Sisu index are replayed from the index, without reading the class file.
      *
      * @param visitor The class space visitor
      */
     public void accept(final SpaceVisitor visitor) {
         visitor.enterSpace(space);
 
-        for (final Enumeration<URL> result = finder.findClasses(space); result.hasMoreElements(); ) {
-            final URL url = result.nextElement();
-            final ClassVisitor cv = visitor.visitClass(url);
-            if (null != cv) {
-                accept(cv, url, isStrict);
+        final Enumeration<URL> result = finder.findClasses(space);
+        final ClassSpace filterSpace = isPrefiltered && visitor instanceof QualifiedTypeVisitor ? space : null;
+        if (isParallel && Runtime.getRuntime().availableProcessors() > 1) {
+            acceptInParallel(visitor, result, filterSpace);
+        } else {
+            while (result.hasMoreElements()) {
+                final URL url = result.nextElement();
+                final ClassVisitor cv = visitor.visitClass(url);
+                if (null != cv) {
+                    final RecordedClass record = indexedRecord(result);
+                    if (null != record) {
+                        replay(cv, result, record, filterSpace);
+                    } else {
+                        accept(cv, url, isStrict, filterSpace);
+                    }
+                }
             }
         }
 
@@ -123,11 +173,42 @@ public final class SpaceScanner {
      * @param isStrict If set to {@code true} throws {@link RuntimeException} in case of parsing issues with the class
      */
     public static void accept(final ClassVisitor visitor, final URL url, boolean isStrict) {
+        accept(visitor, url, isStrict, null);
+    }
+
+    /**
+     * Returns the JVM descriptor for the given annotation class, such as "Ljavax/inject/Qualifier;".
+     *
+     * @param clazz The annotation class
+     * @return JVM descriptor of the class
+     * @see ClassVisitor#visitAnnotation(String)
+     */
+    public static String jvmDescriptor(final Class<? extends Annotation> clazz) {
+        return 'L' + clazz.getName().replace('.', '/') + ';';
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Makes the given {@link ClassVisitor} visit the class contained in the resource {@link URL}.
+     *
+     * @param visitor The class visitor
+     * @param url The class resource URL
+     * @param isStrict If set to {@code true} throws {@link RuntimeException} in case of parsing issues with the class
+     * @param filterSpace If set skips classes that can't carry a qualifier annotation in this space
+     */
+    private static void accept(
+            final ClassVisitor visitor, final URL url, final boolean isStrict, final ClassSpace filterSpace) {
         if (null == url) {
             return; // nothing to visit
         }
-        try (final InputStream in = Streams.open(url)) {
-            new ClassReader(in).accept(adapt(visitor), ASM_FLAGS);
+        try {
+            final byte[] bytes = readClass(url);
+            if (null == filterSpace || QualifierPrefilter.mayBeQualified(filterSpace, bytes)) {
+                parseClass(visitor, bytes);
+            }
         } catch (final IOException | RuntimeException e) {
             if (isStrict) {
                 throw new IllegalStateException("Problem scanning " + url, e);
@@ -138,19 +219,109 @@ public final class SpaceScanner {
     }
 
     /**
-     * Returns the JVM descriptor for the given annotation class, such as "Ljavax/inject/Qualifier;".
+     * Makes the given {@link ClassVisitor} visit the class contained in the class file bytes.
      *
-     * @param clazz The annotation class
-     * @return JVM descriptor of the class
-     * @see ClassVisitor#visitAnnotation(String)
+     * @param visitor The class visitor
+     * @param bytes The class file bytes
      */
-    public static String jvmDescriptor(final Class<? extends Annotation> clazz) {
-        return 'L' + clazz.getName().replace('.', '/') + ';';
+    static void parseClass(final ClassVisitor visitor, final byte[] bytes) {
+        new ClassReader(bytes).accept(adapt(visitor), ASM_FLAGS);
     }
 
-    // ----------------------------------------------------------------------
-    // Implementation methods
-    // ----------------------------------------------------------------------
+    /**
+     * Reads the entire class file contained in the resource {@link URL}.
+     *
+     * @param url The class resource URL
+     * @return Class file bytes
+     */
+    static byte[] readClass(final URL url) throws IOException {
+        try (final InputStream in = Streams.open(url)) {
+            byte[] buf = new byte[Math.max(in.available(), 4096)];
+            int size = 0;
+            for (int n; (n = in.read(buf, size, buf.length - size)) >= 0; ) {
+                size += n;
+                if (size == buf.length) {
+                    buf = Arrays.copyOf(buf, size << 1);
+                }
+            }
+            return Arrays.copyOf(buf, size);
+        }
+    }
+
+    /**
+     * Reads classes ahead of the visitor using a bounded window of parallel tasks, then replays them in order.
+     *
+     * @param visitor The class space visitor
+     * @param result The class resource URLs
+     * @param filterSpace If set skips classes that can't carry a qualifier annotation in this space
+     */
+    private void acceptInParallel(
+            final SpaceVisitor visitor, final Enumeration<URL> result, final ClassSpace filterSpace) {
+        final int window = ScanTasks.parallelism() * READ_AHEAD;
+
+        final Deque<FutureTask<RecordedClass>> pending = new ArrayDeque<>(window);
+        try {
+            while (result.hasMoreElements() || !pending.isEmpty()) {
+                while (pending.size() < window && result.hasMoreElements()) {
+                    final URL url = result.nextElement();
+                    final RecordedClass record = indexedRecord(result);
+                    if (null != record) {
+                        final FutureTask<RecordedClass> task = new FutureTask<>(() -> record);
+                        task.run(); // already recorded, no need to read it
+                        pending.add(task);
+                    } else {
+                        pending.add(ScanTasks.submit(() -> new RecordedClass(url, filterSpace)));
+                    }
+                }
+                final RecordedClass clazz = ScanTasks.join(pending.remove());
+                final ClassVisitor cv = visitor.visitClass(clazz.url());
+                if (null != cv) {
+                    if (clazz.isRestored()) {
+                        replay(cv, result, clazz, filterSpace);
+                    } else {
+                        clazz.replay(cv, isStrict);
+                    }
+                }
+            }
+        } finally {
+            for (final FutureTask<?> task : pending) {
+                task.cancel(false); // scanning was aborted
+            }
+        }
+    }
+
+    /**
+     * Replays the given binary index record, unless the class space now resolves its class to another location.
+     *
+     * @param visitor The class visitor
+     * @param result The class resource URLs
+     * @param record The binary index record
+     * @param filterSpace If set skips classes that can't carry a qualifier annotation in this space
+     */
+    private void replay(
+            final ClassVisitor visitor,
+            final Enumeration<URL> result,
+            final RecordedClass record,
+            final ClassSpace filterSpace) {
+        final URL url = ((IndexedClassFinder.IndexedClasses) result).resolve(record);
+        if (record.isLocatedAt(url)) {
+            record.replay(visitor, isStrict);
+        } else {
+            accept(visitor, url, isStrict, filterSpace); // shadowed by another definition, so the record doesn't apply
+        }
+    }
+
+    /**
+     * Returns the binary index record of the class just enumerated by an {@link IndexedClassFinder}.
+     *
+     * @param result The class resource URLs
+     * @return Recorded class; {@code null} if the class has no record
+     */
+    private static RecordedClass indexedRecord(final Enumeration<URL> result) {
+        return result instanceof IndexedClassFinder.IndexedClasses
+                ? ((IndexedClassFinder.IndexedClasses) result).currentRecord()
+                : null;
+    }
 
     /**
      * Adapts the given {@link ClassVisitor} to its equivalent ASM form.
@@ -25,13 +25,19 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.FutureTask;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import org.eclipse.sisu.inject.DeferredClass;
+import org.eclipse.sisu.inject.Soft;
 
 /**
  * {@link ClassSpace} backed by a strongly-referenced {@link ClassLoader} and a {@link URL} class path.
+ * <p>
+ * Class-Path entries from local manifests are cached per file and re-read when the file's size or last-modified time
+ * changes, so spaces over the same jars don't have to open them again.
  */
 public class URLClassSpace implements ClassSpace {
     // ----------------------------------------------------------------------
@@ -64,6 +70,10 @@ public class URLClassSpace implements ClassSpace {
 
     private static final String[] EMPTY_CLASSPATH = {};
 
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private static final ConcurrentMap<String, ManifestClassPath> MANIFEST_CACHE = Soft.concurrentValues();
+
     private static final ClassLoader SYSTEM_LOADER;
 
     private static final String SYSTEM_CLASSPATH;
@@ -239,6 +249,10 @@ public class URLClassSpace implements ClassSpace {
      * @return Expanded URL class path
      */
     private static URL[] expandClassPath(final URL[] classPath) {
+        if (classPath.length >= PARALLEL_THRESHOLD) {
+            prefetchClassPathEntries(classPath);
+        }
+
         final List<URL> searchPath = new ArrayList<>();
         Collections.addAll(searchPath, classPath);
 
@@ -292,13 +306,65 @@ public class URLClassSpace implements ClassSpace {
         return url;
     }
 
+    /**
+     * Reads the Class-Path entries of local jars and directories in parallel, so expansion finds them in the cache.
+     *
+     * @param classPath The URL class path
+     */
+    private static void prefetchClassPathEntries(final URL[] classPath) {
+        final List<FutureTask<String[]>> tasks = new ArrayList<>(classPath.length);
+        for (final URL entry : classPath) {
+            final URL url = normalizeEntry(entry);
+            if (null != url && "file".equals(url.getProtocol())) {
+                tasks.add(ScanTasks.submit(() -> {
+                    try {
+                        return getClassPathEntries(url);
+                    } catch (final IOException e) // NOSONAR
+                    {
+                        return null; // expansion will see the same problem
+                    }
+                }));
+            }
+        }
+        for (final FutureTask<String[]> task : tasks) {
+            ScanTasks.join(task);
+        }
+    }
+
     /**
      * Looks for Class-Path entries in the given jar or directory; returns empty array if none are found.
+     * <p>
+     * Local results are cached until the underlying jar or manifest changes.
      *
      * @param url The jar or directory to inspect
-     * @return Array of Class-Path entries
+     * @return Array of Class-Path entries; must not be modified
      */
     private static String[] getClassPathEntries(final URL url) throws IOException {
+        if (!"file".equals(url.getProtocol())) {
+            return readClassPathEntries(url);
+        }
+        final File dirOrJar = FileEntryIterator.toFile(url);
+        final File file = url.getPath().endsWith("/") ? new File(dirOrJar, MANIFEST_ENTRY) : dirOrJar;
+        final String key = file.getAbsolutePath();
+        final long lastModified = file.lastModified();
+        final long length = file.length();
+        ManifestClassPath cached = MANIFEST_CACHE.get(key);
+        if (null == cached || cached.lastModified != lastModified || cached.length != length) {
+            // a last-modified time of zero means the file is missing, which is the same as having no entries
+            final String[] entries = 0 != lastModified ? readClassPathEntries(url) : EMPTY_CLASSPATH;
+            cached = new ManifestClassPath(entries, lastModified, length);
+            MANIFEST_CACHE.put(key, cached);
+        }
+        return cached.entries;
+    }
+
+    /**
+     * Reads Class-Path entries from the manifest of the given jar or directory.
+     *
+     * @param url The jar or directory to inspect
+     * @return Array of Class-Path entries
+     */
+    private static String[] readClassPathEntries(final URL url) throws IOException {
         final Manifest manifest;
         if (url.getPath().endsWith("/")) {
             try (InputStream in = Streams.open(new URL(url, MANIFEST_ENTRY))) {
@@ -321,4 +387,25 @@ public class URLClassSpace implements ClassSpace {
         }
         return EMPTY_CLASSPATH;
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Class-Path entries read from a local jar or manifest, along with the file details used to detect changes.
+     */
+    private static final class ManifestClassPath {
+        final String[] entries;
+
+        final long lastModified;
+
+        final long length;
+
+        ManifestClassPath(final String[] entries, final long lastModified, final long length) {
+            this.entries = entries;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
 }
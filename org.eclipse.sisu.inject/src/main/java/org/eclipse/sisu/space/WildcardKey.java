@@ -19,6 +19,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import javax.inject.Provider;
 import javax.inject.Qualifier;
+import org.eclipse.sisu.inject.DeferredClass;
 
 /**
  * Binding {@link Key} for implementations that act as "wild-cards", meaning they match against any assignable type.
@@ -26,6 +27,9 @@ import javax.inject.Qualifier;
  * Since the wild-card type is {@link Object} and the associated qualifier may not be unique between implementations,
  * the qualifier is saved and replaced with a unique (per-implementation) pseudo-qualifier. The original qualifier is
  * available by casting the pseudo-qualifier to {@link Provider} and calling {@code get()}.
+ * <p>
+ * Deferred implementations are bound under each of their types instead, using a pseudo-qualifier that captures the
+ * {@link DeferredClass} so the implementation doesn't need to be loaded.
  */
 final class WildcardKey {
     // ----------------------------------------------------------------------
@@ -53,6 +57,13 @@ final class WildcardKey {
         return Key.get(OBJECT_TYPE_LITERAL, new QualifiedImpl(type, qualifier));
     }
 
+    /**
+     * @return Key binding the given deferred implementation and qualifier under one of its types
+     */
+    public static Key<?> get(final Class<?> type, final DeferredClass<?> clazz, final Annotation qualifier) {
+        return Key.get(type, new DeferredImpl(clazz, qualifier));
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -66,6 +77,15 @@ final class WildcardKey {
         Class<?> value();
     }
 
+    /**
+     * {@link Qualifier} that captures the name of a deferred implementation type.
+     */
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    private static @interface Deferred {
+        String value();
+    }
+
     /**
      * Pseudo-{@link Annotation} that can wrap any implementation type as a {@link Qualifier}.
      */
@@ -127,4 +147,66 @@ final class WildcardKey {
             return "*"; // let people know this is a "wild-card" qualifier
         }
     }
+
+    /**
+     * Pseudo-{@link Annotation} that can wrap any deferred implementation type as a {@link Qualifier}.
+     */
+    private static final class DeferredImpl implements Deferred, Provider<Annotation> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final DeferredClass<?> clazz;
+
+        private final Annotation qualifier;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        DeferredImpl(final DeferredClass<?> clazz, final Annotation qualifier) {
+            this.clazz = clazz;
+            this.qualifier = qualifier;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public String value() {
+            return clazz.getName();
+        }
+
+        @Override
+        public Annotation get() {
+            return qualifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Deferred.class;
+        }
+
+        @Override
+        public int hashCode() {
+            return clazz.hashCode(); // no need to follow strict annotation spec
+        }
+
+        @Override
+        public boolean equals(final Object rhs) {
+            if (this == rhs) {
+                return true;
+            }
+            if (rhs instanceof DeferredImpl) {
+                return clazz.equals(((DeferredImpl) rhs).clazz);
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "~" + clazz.getName(); // let people know this implementation is deferred
+        }
+    }
 }
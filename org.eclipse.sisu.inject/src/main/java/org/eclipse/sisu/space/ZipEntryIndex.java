@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Shared index of the entry names inside a JAR or ZIP archive.
+ * <p>
+ * Names are kept in archive order alongside a sorted view, so entries below a given path prefix are found by binary
+ * search instead of re-reading the central directory. Indexes of local archives are cached per file and rebuilt when
+ * the file's size or last-modified time changes.
+ */
+final class ZipEntryIndex {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String[] NO_NAMES = {};
+
+    private static final ConcurrentMap<String, ZipEntryIndex> INDEX_CACHE = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final String[] names;
+
+    private final int[] sorted;
+
+    private final long lastModified;
+
+    private final long length;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    ZipEntryIndex(final String[] names) {
+        this(names, 0, 0);
+    }
+
+    private ZipEntryIndex(final String[] names, final long lastModified, final long length) {
+        this.names = names;
+        this.lastModified = lastModified;
+        this.length = length;
+
+        final Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = Integer.valueOf(i);
+        }
+        Arrays.sort(order, (lhs, rhs) -> names[lhs.intValue()].compareTo(names[rhs.intValue()]));
+        sorted = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = order[i].intValue();
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the shared index for the given archive, building it on first access.
+     *
+     * @param url The archive URL
+     * @return Index of the archive
+     */
+    static ZipEntryIndex forURL(final URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            final File file = FileEntryIterator.toFile(url);
+            final String key = file.getAbsolutePath();
+            ZipEntryIndex index = INDEX_CACHE.get(key);
+            if (null == index || index.lastModified != file.lastModified() || index.length != file.length()) {
+                final long lastModified = file.lastModified();
+                final long length = file.length();
+                index = new ZipEntryIndex(getEntryNames(new ZipFile(file)), lastModified, length);
+                INDEX_CACHE.put(key, index);
+            }
+            return index;
+        }
+        if ("jar".equals(url.getProtocol())) {
+            try {
+                return NestedJarIndex.forURL(url).getEntryIndex();
+            } catch (final IOException e) {
+                // fall back to streaming below
+            }
+        }
+        return new ZipEntryIndex(getEntryNames(new ZipInputStream(Streams.open(url))));
+    }
+
+    /**
+     * Returns the names of entries that start with the given prefix, in archive order.
+     *
+     * @param prefix The path prefix
+     * @return Array of entry names; must not be modified
+     */
+    String[] getEntryNames(final String prefix) {
+        if (prefix.isEmpty()) {
+            return names;
+        }
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = lo + hi >>> 1;
+            if (names[sorted[mid]].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        hi = lo;
+        while (hi < sorted.length && names[sorted[hi]].startsWith(prefix)) {
+            hi++;
+        }
+        if (lo == hi) {
+            return NO_NAMES;
+        }
+        final int[] matches = Arrays.copyOfRange(sorted, lo, hi);
+        Arrays.sort(matches); // restore archive order
+        final String[] result = new String[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            result[i] = names[matches[i]];
+        }
+        return result;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns a string array listing the entries in the given zip file.
+     *
+     * @param zipFile The zip file
+     * @return Array of entry names
+     */
+    private static String[] getEntryNames(final ZipFile zipFile) throws IOException {
+        try {
+            final String names[] = new String[zipFile.size()];
+            final Enumeration<? extends ZipEntry> e = zipFile.entries(); // NOSONAR
+            for (int i = 0; i < names.length; i++) {
+                names[i] = e.nextElement().getName();
+            }
+            return names;
+        } finally {
+            zipFile.close();
+        }
+    }
+
+    /**
+     * Returns a string array listing the entries in the given zip stream.
+     *
+     * @param zipStream The zip stream
+     * @return Array of entry names
+     */
+    private static String[] getEntryNames(final ZipInputStream zipStream) throws IOException {
+        try {
+            final List<String> names = new ArrayList<>(64);
+            for (ZipEntry e = zipStream.getNextEntry(); e != null; e = zipStream.getNextEntry()) // NOSONAR
+            {
+                names.add(e.getName());
+            }
+            return names.toArray(new String[names.size()]);
+        } finally {
+            zipStream.close();
+        }
+    }
+}
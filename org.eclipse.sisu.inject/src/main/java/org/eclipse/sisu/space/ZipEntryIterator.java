@@ -14,13 +14,7 @@ package org.eclipse.sisu.space;
 
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
 
 /**
  * {@link Iterator} that iterates over named entries inside JAR or ZIP resources.
@@ -39,12 +33,18 @@ final class ZipEntryIterator implements Iterator<String> {
     // ----------------------------------------------------------------------
 
     ZipEntryIterator(final URL url) {
+        this(url, "");
+    }
+
+    /**
+     * Iterates over entries whose names start with the given prefix, using the archive's shared index.
+     *
+     * @param url The archive URL
+     * @param prefix The path prefix
+     */
+    ZipEntryIterator(final URL url, final String prefix) {
         try {
-            if ("file".equals(url.getProtocol())) {
-                entryNames = getEntryNames(new ZipFile(FileEntryIterator.toFile(url)));
-            } else {
-                entryNames = getEntryNames(new ZipInputStream(Streams.open(url)));
-            }
+            entryNames = ZipEntryIndex.forURL(url).getEntryNames(prefix);
         } catch (final IOException e) {
             entryNames = new String[0];
         }
@@ -69,46 +69,4 @@ final class ZipEntryIterator implements Iterator<String> {
     public void remove() {
         throw new UnsupportedOperationException();
     }
-
-    // ----------------------------------------------------------------------
-    // Implementation methods
-    // ----------------------------------------------------------------------
-
-    /**
-     * Returns a string array listing the entries in the given zip file.
-     *
-     * @param zipFile The zip file
-     * @return Array of entry names
-     */
-    private static String[] getEntryNames(final ZipFile zipFile) throws IOException {
-        try {
-            final String names[] = new String[zipFile.size()];
-            final Enumeration<? extends ZipEntry> e = zipFile.entries(); // NOSONAR
-            for (int i = 0; i < names.length; i++) {
-                names[i] = e.nextElement().getName();
-            }
-            return names;
-        } finally {
-            zipFile.close();
-        }
-    }
-
-    /**
-     * Returns a string array listing the entries in the given zip stream.
-     *
-     * @param zipStream The zip stream
-     * @return Array of entry names
-     */
-    private static String[] getEntryNames(final ZipInputStream zipStream) throws IOException {
-        try {
-            final List<String> names = new ArrayList<>(64);
-            for (ZipEntry e = zipStream.getNextEntry(); e != null; e = zipStream.getNextEntry()) // NOSONAR
-            {
-                names.add(e.getName());
-            }
-            return names.toArray(new String[names.size()]);
-        } finally {
-            zipStream.close();
-        }
-    }
 }
@@ -88,7 +88,7 @@ final class BeanProviders {
         return new Provider<List<V>>() {
             @Override
             public List<V> get() {
-                return new EntryListAdapter<>(entries.get());
+                return new SnapshotListAdapter<>(entries.get());
             }
         };
     }
@@ -101,7 +101,7 @@ final class BeanProviders {
         return new Provider<Set<V>>() {
             @Override
             public Set<V> get() {
-                return new EntrySetAdapter<>(entries.get());
+                return new SnapshotSetAdapter<>(entries.get());
             }
         };
     }
@@ -114,7 +114,7 @@ final class BeanProviders {
         return new Provider<Map<K, V>>() {
             @Override
             public Map<K, V> get() {
-                return new EntryMapAdapter<>(entries.get());
+                return new SnapshotMapAdapter<>(entries.get());
             }
         };
     }
@@ -127,7 +127,7 @@ final class BeanProviders {
         return new Provider<Map<String, V>>() {
             @Override
             public Map<String, V> get() {
-                return new EntryMapAdapter<>(new NamedIterableAdapter<>(entries.get()));
+                return new SnapshotMapAdapter<>(new NamedIterableAdapter<>(entries.get()));
             }
         };
     }
@@ -136,19 +136,7 @@ final class BeanProviders {
      * Provides single qualified beans/providers.
      */
     <V> Provider<V> firstOf(final Key<V> key) {
-        final Provider<Iterable<? extends BeanEntry<Annotation, V>>> beanEntries = beanEntriesOf(key);
-        return new Provider<V>() {
-            private volatile Iterable<? extends BeanEntry<?, V>> cachedLookup; // NOSONAR
-
-            @Override
-            public V get() {
-                if (null == cachedLookup) {
-                    cachedLookup = beanEntries.get();
-                }
-                final Iterator<? extends BeanEntry<?, V>> itr = cachedLookup.iterator();
-                return itr.hasNext() ? itr.next().getProvider().get() : null;
-            }
-        };
+        return new FirstBeanProvider<>(beanEntriesOf(key));
     }
 
     /**
@@ -157,4 +145,68 @@ final class BeanProviders {
     public <V> Provider<V> placeholderOf(final Key<V> key) {
         return new PlaceholderBeanProvider<>(this, key);
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Provides the first qualified bean/provider, remembering the leading {@link BeanEntry} until the sequence changes.
+     */
+    private static final class FirstBeanProvider<V> implements Provider<V> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Provider<? extends Iterable<? extends BeanEntry<?, V>>> beanEntries;
+
+        private volatile Iterable<? extends BeanEntry<?, V>> cachedLookup; // NOSONAR
+
+        private volatile Head<V> head; // NOSONAR
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        FirstBeanProvider(final Provider<? extends Iterable<? extends BeanEntry<?, V>>> beanEntries) {
+            this.beanEntries = beanEntries;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public V get() {
+            Iterable<? extends BeanEntry<?, V>> lookup = cachedLookup;
+            if (null == lookup) {
+                cachedLookup = lookup = beanEntries.get();
+            }
+            final Object version = EntrySnapshot.versionOf(lookup);
+            Head<V> currentHead = head;
+            if (null == currentHead || null == version || !version.equals(currentHead.version)) {
+                final Iterator<? extends BeanEntry<?, V>> itr = lookup.iterator();
+                currentHead = new Head<>(version, itr.hasNext() ? itr.next() : null);
+                // only remember the leading entry if the sequence didn't change while we were reading it
+                if (null != version && version.equals(EntrySnapshot.versionOf(lookup))) {
+                    head = currentHead;
+                }
+            }
+            return null != currentHead.bean ? currentHead.bean.getProvider().get() : null;
+        }
+    }
+
+    /**
+     * Leading {@link BeanEntry} of a sequence, along with the version it was read at.
+     */
+    private static final class Head<V> {
+        final Object version;
+
+        final BeanEntry<?, V> bean;
+
+        Head(final Object version, final BeanEntry<?, V> bean) {
+            this.version = version;
+            this.bean = bean;
+        }
+    }
 }
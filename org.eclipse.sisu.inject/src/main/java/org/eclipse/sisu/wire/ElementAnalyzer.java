@@ -283,7 +283,8 @@ final class ElementAnalyzer extends DefaultElementVisitor<Void> {
         if (name.startsWith("org.eclipse.sisu.inject") || name.startsWith("org.sonatype.guice.bean.locators")) {
             return name.endsWith("BeanLocator")
                     || name.endsWith("BindingPublisher")
-                    || name.endsWith("RankingFunction");
+                    || name.endsWith("RankingFunction")
+                    || name.endsWith("BeanLocatorMetrics");
         }
         return "org.slf4j.Logger".equals(name);
     }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.sisu.inject.Versioned;
+
+/**
+ * Random-access snapshot of an {@link Iterable} sequence of map entries, rebuilt whenever the sequence changes.
+ * <p>
+ * Sequences that implement {@link Versioned} are only re-read when their version changes; other sequences are re-read
+ * every time the snapshot is used.
+ */
+final class EntrySnapshot<K, V> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Iterable<? extends Entry<K, V>> iterable;
+
+    private volatile Content<K, V> content; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    EntrySnapshot(final Iterable<? extends Entry<K, V>> iterable) {
+        this.iterable = iterable;
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Current entries, in sequence order; must not be modified
+     */
+    Entry<K, V>[] entries() {
+        return current().entries;
+    }
+
+    /**
+     * @return First current entry with the given key; {@code null} if there is no such entry
+     */
+    Entry<K, V> find(final Object key) {
+        return current().index().get(key);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private Content<K, V> current() {
+        final Object version = versionOf(iterable);
+        Content<K, V> snapshot = content;
+        if (null == snapshot || null == version || !version.equals(snapshot.version)) {
+            snapshot = new Content<>(iterable, version);
+            content = snapshot;
+        }
+        return snapshot;
+    }
+
+    static Object versionOf(final Object iterable) {
+        return iterable instanceof Versioned ? ((Versioned) iterable).version() : null;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Entries read from the sequence, along with the version they were read at.
+     */
+    private static final class Content<K, V> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final Entry<K, V>[] entries;
+
+        final Object version;
+
+        private volatile Map<Object, Entry<K, V>> index; // NOSONAR
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Content(final Iterable<? extends Entry<K, V>> iterable, final Object version) {
+            final List<Entry<K, V>> list = new ArrayList<>();
+            for (final Entry<K, V> entry : iterable) {
+                list.add(entry);
+            }
+            @SuppressWarnings("unchecked")
+            final Entry<K, V>[] array = (Entry<K, V>[]) new Entry<?, ?>[list.size()];
+            entries = list.toArray(array);
+
+            // the sequence may have changed while we were reading it, in which case we can't trust the version
+            this.version = null != version && version.equals(versionOf(iterable)) ? version : null;
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        Map<Object, Entry<K, V>> index() {
+            Map<Object, Entry<K, V>> keyIndex = index;
+            if (null == keyIndex) {
+                keyIndex = new HashMap<>(entries.length * 4 / 3 + 1);
+                for (final Entry<K, V> entry : entries) {
+                    keyIndex.putIfAbsent(entry.getKey(), entry); // first entry wins, same as a linear search
+                }
+                index = keyIndex;
+            }
+            return keyIndex;
+        }
+    }
+}
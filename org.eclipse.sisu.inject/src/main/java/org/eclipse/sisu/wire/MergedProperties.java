@@ -14,16 +14,27 @@ package org.eclipse.sisu.wire;
 
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * Delegating {@link Map} that merges a series of {@link Map}s into one consistent view.
+ * <p>
+ * Sources that are {@link Versioned} are flattened into a single key index, which is rebuilt whenever one of their
+ * versions changes. Other sources can change without notice, so they are always consulted directly.
  */
-final class MergedProperties extends AbstractMap<Object, Object> {
+final class MergedProperties extends AbstractMap<Object, Object> implements Versioned {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Object NO_SOURCES = new Object();
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -32,12 +43,36 @@ final class MergedProperties extends AbstractMap<Object, Object> {
 
     final Map<?, ?>[] properties;
 
+    // positions of sources that are consulted directly, in order
+    private final int[] direct;
+
+    // positions of versioned sources, in order
+    private final int[] versioned;
+
+    private volatile KeyIndex keyIndex; // NOSONAR
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
 
     MergedProperties(final List<Map<?, ?>> properties) {
-        this.properties = properties.toArray(new Map[properties.size()]);
+        this.properties = properties.toArray(new Map<?, ?>[properties.size()]);
+
+        int numVersioned = 0;
+        for (final Map<?, ?> p : this.properties) {
+            if (p instanceof Versioned) {
+                numVersioned++;
+            }
+        }
+        versioned = new int[numVersioned];
+        direct = new int[this.properties.length - numVersioned];
+        for (int i = 0, v = 0, d = 0; i < this.properties.length; i++) {
+            if (this.properties[i] instanceof Versioned) {
+                versioned[v++] = i;
+            } else {
+                direct[d++] = i;
+            }
+        }
     }
 
     // ----------------------------------------------------------------------
@@ -46,25 +81,63 @@ final class MergedProperties extends AbstractMap<Object, Object> {
 
     @Override
     public Object get(final Object key) {
-        for (final Map<?, ?> p : properties) {
-            final Object value = p.get(key);
+        final KeyIndex index = keyIndex();
+        if (null == index) {
+            for (final Map<?, ?> p : properties) {
+                final Object value = p.get(key);
+                if (null != value) {
+                    return value;
+                }
+            }
+            return null;
+        }
+        final Hit hit = index.hits.get(key);
+        final int limit = null != hit ? hit.position : Integer.MAX_VALUE;
+        for (final int i : direct) {
+            if (i > limit) {
+                break; // the indexed value takes precedence
+            }
+            final Object value = properties[i].get(key);
             if (null != value) {
                 return value;
             }
         }
-        return null;
+        return null != hit ? hit.value : null;
     }
 
     @Override
     public boolean containsKey(final Object key) {
-        for (final Map<?, ?> p : properties) {
-            if (p.containsKey(key)) {
+        final KeyIndex index = keyIndex();
+        if (null == index) {
+            for (final Map<?, ?> p : properties) {
+                if (p.containsKey(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (index.hits.containsKey(key)) {
+            return true;
+        }
+        for (final int i : direct) {
+            if (properties[i].containsKey(key)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Returns the combined version of the merged sources; it's only known when every source is {@link Versioned}.
+     */
+    @Override
+    public Object version() {
+        if (direct.length > 0) {
+            return null;
+        }
+        return versioned.length > 0 ? keyIndex() : NO_SOURCES;
+    }
+
     @Override
     public Set<Entry<Object, Object>> entrySet() {
         if (null == entrySet) {
@@ -73,10 +146,84 @@ final class MergedProperties extends AbstractMap<Object, Object> {
         return entrySet;
     }
 
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Index of the versioned sources; {@code null} if there are none or any of their versions is unknown
+     */
+    private KeyIndex keyIndex() {
+        if (versioned.length == 0) {
+            return null;
+        }
+        final KeyIndex index = keyIndex;
+        boolean current = null != index;
+        for (int i = 0; i < versioned.length; i++) {
+            final Object version = ((Versioned) properties[versioned[i]]).version();
+            if (null == version) {
+                return null; // can't tell when this source changes, so every source is consulted directly
+            }
+            current = current && version.equals(index.versions[i]);
+        }
+        if (current) {
+            return index;
+        }
+        // record versions before reading the sources, so changes made while indexing cause another rebuild
+        final Object[] versions = new Object[versioned.length];
+        for (int i = 0; i < versioned.length; i++) {
+            versions[i] = ((Versioned) properties[versioned[i]]).version();
+        }
+        final KeyIndex newIndex = new KeyIndex(versions);
+        for (final int i : versioned) {
+            for (final Entry<?, ?> e : properties[i].entrySet()) {
+                newIndex.add(e.getKey(), e.getValue(), i);
+            }
+        }
+        keyIndex = newIndex;
+        return newIndex;
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
 
+    /**
+     * First-wins index of the keys held by versioned sources, along with the versions it was built from.
+     */
+    static final class KeyIndex {
+        final Object[] versions;
+
+        final Map<Object, Hit> hits = new HashMap<>();
+
+        KeyIndex(final Object[] versions) {
+            this.versions = versions;
+        }
+
+        void add(final Object key, final Object value, final int position) {
+            final Hit hit = hits.get(key);
+            if (null == hit) {
+                hits.put(key, null != value ? new Hit(position, value) : new Hit(Integer.MAX_VALUE, null));
+            } else if (null == hit.value && null != value) {
+                hits.put(key, new Hit(position, value)); // earlier sources only had a null value
+            }
+        }
+    }
+
+    /**
+     * Indexed key; records the first non-null value and the position of its source.
+     */
+    static final class Hit {
+        final int position;
+
+        final Object value;
+
+        Hit(final int position, final Object value) {
+            this.position = position;
+            this.value = value;
+        }
+    }
+
     final class MergedEntries extends AbstractSet<Entry<Object, Object>> {
         @Override
         public Iterator<Entry<Object, Object>> iterator() {
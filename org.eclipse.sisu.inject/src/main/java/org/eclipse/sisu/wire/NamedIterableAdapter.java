@@ -15,11 +15,12 @@ package org.eclipse.sisu.wire;
 import com.google.inject.name.Named;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * String mapping {@link Iterable} backed by a {@link Named} mapping {@link Iterable}.
  */
-final class NamedIterableAdapter<V> implements Iterable<Entry<String, V>> {
+final class NamedIterableAdapter<V> implements Iterable<Entry<String, V>>, Versioned {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -43,6 +44,11 @@ final class NamedIterableAdapter<V> implements Iterable<Entry<String, V>> {
         return new NamedIterator<>(delegate);
     }
 
+    @Override
+    public Object version() {
+        return EntrySnapshot.versionOf(delegate);
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -14,16 +14,14 @@ package org.eclipse.sisu.wire;
 
 import com.google.inject.Key;
 import com.google.inject.Provider;
-import com.google.inject.ProvisionException;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.google.inject.spi.TypeConverter;
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Map;
-import java.util.Map.Entry;
 import javax.inject.Inject;
 import org.eclipse.sisu.Parameters;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * Provides a single bean; the name used to lookup/convert the bean is selected at runtime.
@@ -33,7 +31,7 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
     // Constants
     // ----------------------------------------------------------------------
 
-    private static final int EXPRESSION_RECURSION_LIMIT = 8;
+    private static final TypeLiteral<String> STRING_TYPE = TypeLiteral.get(String.class);
 
     // ----------------------------------------------------------------------
     // Implementation fields
@@ -51,7 +49,15 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
 
     private final Key<V> placeholderKey;
 
-    private volatile Entry<Key<?>, Provider<?>> cachedLookup; // NOSONAR
+    private final PlaceholderTemplate template;
+
+    private volatile Interpolation cachedValue; // NOSONAR
+
+    private volatile Lookup<V> cachedBean; // NOSONAR
+
+    private volatile Lookup<String> cachedConstant; // NOSONAR
+
+    private volatile TypeConverter cachedConverter; // NOSONAR
 
     // ----------------------------------------------------------------------
     // Constructors
@@ -60,6 +66,7 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
     PlaceholderBeanProvider(final BeanProviders beans, final Key<V> key) {
         this.beans = beans;
         placeholderKey = key;
+        template = PlaceholderTemplate.compile(((Named) key.getAnnotation()).value());
     }
 
     // ----------------------------------------------------------------------
@@ -69,22 +76,21 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
     @Override
     @SuppressWarnings("unchecked")
     public V get() {
-        final String template = ((Named) placeholderKey.getAnnotation()).value();
         final TypeLiteral<V> expectedType = placeholderKey.getTypeLiteral();
 
         // ---------------- INTERPOLATION ----------------
 
         final Class<?> clazz = expectedType.getRawType();
-        Object value = interpolate(template, clazz);
+        Object value = interpolate(clazz);
         if (false == value instanceof String) {
             return (V) value; // found non-String mapping
         }
 
         // ------------------- LOOKUP --------------------
 
-        final Key<V> lookupKey = Key.get(expectedType, Names.named((String) value));
         if (String.class != clazz) {
-            final V bean = lookup(lookupKey);
+            final Lookup<V> lookup = cachedBean = lookup(cachedBean, expectedType, (String) value);
+            final V bean = lookup.provider.get();
             if (null != bean) {
                 return bean; // found non-String binding
             }
@@ -92,15 +98,19 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
 
         // ----------------- CONVERSION ------------------
 
-        if (template == value) // NOSONAR we want to know if same instance
+        if (template.text == value) // NOSONAR we want to know if same instance
         {
             // no interpolation occurred; is this perhaps a Guice constant?
-            value = nullify(lookup(lookupKey.ofType(String.class)));
+            final Lookup<String> lookup = cachedConstant = lookup(cachedConstant, STRING_TYPE, (String) value);
+            value = PlaceholderTemplate.nullify(lookup.provider.get());
         }
         if (null == value || String.class == clazz) {
             return (V) value; // no conversion required
         }
-        final TypeConverter converter = converterCache.getTypeConverter(expectedType);
+        TypeConverter converter = cachedConverter;
+        if (null == converter) {
+            cachedConverter = converter = converterCache.getTypeConverter(expectedType);
+        }
         if (null != converter) {
             return (V) converter.convert((String) value, expectedType);
         }
@@ -111,53 +121,57 @@ final class PlaceholderBeanProvider<V> implements Provider<V> {
     // Implementation methods
     // ----------------------------------------------------------------------
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private <T> T lookup(final Key<T> key) {
-        Entry<Key<?>, Provider<?>> lookup = cachedLookup;
-        if (null == lookup || !key.equals(lookup.getKey())) {
-            lookup = new SimpleImmutableEntry(key, beans.firstOf(key));
-            cachedLookup = lookup;
+    /**
+     * Interpolates the placeholder; the result is remembered until the version of the properties changes.
+     */
+    private Object interpolate(final Class<?> clazz) {
+        final Object version = properties instanceof Versioned ? ((Versioned) properties).version() : null;
+        if (null == version) {
+            return template.interpolate(properties, clazz);
         }
-        return (T) lookup.getValue().get();
+        Interpolation interpolation = cachedValue;
+        if (null == interpolation || !version.equals(interpolation.version)) {
+            cachedValue = interpolation = new Interpolation(version, template.interpolate(properties, clazz));
+        }
+        return interpolation.value;
     }
 
-    private static String nullify(final String value) {
-        return "null".equals(value) ? null : value;
+    private <T> Lookup<T> lookup(final Lookup<T> cached, final TypeLiteral<T> type, final String name) {
+        if (null != cached && name.equals(cached.name)) {
+            return cached;
+        }
+        return new Lookup<>(name, beans.firstOf(Key.get(type, Names.named(name))));
     }
 
-    private Object interpolate(final String template, final Class<?> clazz) {
-        final StringBuilder buf;
-        if (template.contains("${")) {
-            buf = new StringBuilder(template);
-        } else if (properties.containsKey(template)) {
-            // handle situations where someone missed out the main brackets
-            buf = new StringBuilder("${").append(template).append('}');
-        } else {
-            return template; // nothing to interpolate, maintain reference
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Interpolated value for a particular version of the properties.
+     */
+    private static final class Interpolation {
+        final Object version;
+
+        final Object value;
+
+        Interpolation(final Object version, final Object value) {
+            this.version = version;
+            this.value = value;
         }
-        int x = 0, y, expressionEnd = 0, expressionNum = 0;
-        while ((x = buf.indexOf("${", x)) >= 0 && (y = buf.indexOf("}", x) + 1) > 0) {
-            if (y > expressionEnd) // making progress
-            {
-                expressionNum = 0;
-                expressionEnd = y;
-            }
-            final String key = buf.substring(x + 2, y - 1);
-            final int anchor = key.indexOf(":-");
-            Object value = properties.get(anchor < 0 ? key : key.substring(0, anchor));
-            if (value == null && anchor >= 0) {
-                value = key.substring(anchor + 2);
-            }
-            if (expressionNum++ >= EXPRESSION_RECURSION_LIMIT) {
-                throw new ProvisionException("Recursive configuration: " + template + " stopped at: " + buf);
-            }
-            final int len = buf.length();
-            if (0 == x && len == y && String.class != clazz && clazz.isInstance(value)) {
-                return value; // found compatible (non-String) instance in the properties!
-            }
-            buf.replace(x, y, String.valueOf(value));
-            expressionEnd += buf.length() - len;
+    }
+
+    /**
+     * Single bean lookup for a particular interpolated name.
+     */
+    private static final class Lookup<T> {
+        final String name;
+
+        final Provider<T> provider;
+
+        Lookup(final String name, final Provider<T> provider) {
+            this.name = name;
+            this.provider = provider;
         }
-        return nullify(buf.toString());
     }
 }
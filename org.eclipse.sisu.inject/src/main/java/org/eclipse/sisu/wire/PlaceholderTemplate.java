@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import com.google.inject.ProvisionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Placeholder template, pre-split into literals and <code>${key:-default}</code> expressions.
+ * <p>
+ * Templates are compiled once and then interpolated against the current properties on each call. Substituted values
+ * that could themselves be expanded fall back to the original incremental interpolation, so results are unchanged.
+ */
+final class PlaceholderTemplate {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final int EXPRESSION_RECURSION_LIMIT = 8;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    final String text;
+
+    // literals[i] precedes keys[i]; the final literal follows the last expression
+    private final String[] literals;
+
+    private final String[] keys;
+
+    private final String[] defaults;
+
+    // expressions to use when the brackets were missed out; null unless the text is plain
+    private final PlaceholderTemplate bracketed;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private PlaceholderTemplate(
+            final String text, final List<String> literals, final List<String> keys, final List<String> defaults) {
+        this.text = text;
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.keys = keys.toArray(new String[keys.size()]);
+        this.defaults = defaults.toArray(new String[defaults.size()]);
+
+        bracketed = text.contains("${") ? null : compile("${" + text + '}');
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Compiles the given placeholder template.
+     *
+     * @param text The template text
+     * @return Compiled template
+     */
+    public static PlaceholderTemplate compile(final String text) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        final List<String> defaults = new ArrayList<>();
+
+        int x, y, from = 0;
+        while ((x = text.indexOf("${", from)) >= 0 && (y = text.indexOf('}', x) + 1) > 0) {
+            literals.add(text.substring(from, x));
+            final String key = text.substring(x + 2, y - 1);
+            final int anchor = key.indexOf(":-");
+            keys.add(anchor < 0 ? key : key.substring(0, anchor));
+            defaults.add(anchor < 0 ? null : key.substring(anchor + 2));
+            from = y;
+        }
+        literals.add(text.substring(from));
+
+        return new PlaceholderTemplate(text, literals, keys, defaults);
+    }
+
+    /**
+     * Interpolates this template against the given properties.
+     *
+     * @param properties The properties
+     * @param clazz The expected type
+     * @return Template text if there was nothing to interpolate; otherwise the interpolated result
+     */
+    @SuppressWarnings("rawtypes")
+    public Object interpolate(final Map properties, final Class<?> clazz) {
+        if (null != bracketed) {
+            // handle situations where someone missed out the main brackets
+            return properties.containsKey(text) ? bracketed.interpolate(properties, clazz) : text;
+        }
+        final int size = keys.length;
+        if (0 == size) {
+            return expand(text, properties, clazz); // unterminated expression, nothing to pre-split
+        }
+        if (1 == size && String.class != clazz && literals[0].isEmpty() && literals[1].isEmpty()) {
+            final Object value = resolve(properties, 0);
+            if (clazz.isInstance(value)) {
+                return value; // found compatible (non-String) instance in the properties!
+            }
+        }
+        final StringBuilder buf = new StringBuilder(text.length());
+        for (int i = 0; i < size; i++) {
+            final String value = String.valueOf(resolve(properties, i));
+            if (value.contains("${") || value.endsWith("$")) {
+                return expand(text, properties, clazz); // substituted value may need further expansion
+            }
+            buf.append(literals[i]).append(value);
+        }
+        return nullify(buf.append(literals[size]).toString());
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    static String nullify(final String value) {
+        return "null".equals(value) ? null : value;
+    }
+
+    /**
+     * Interpolates the given template text by repeatedly expanding the leftmost expression in place.
+     */
+    @SuppressWarnings("rawtypes")
+    static Object expand(final String text, final Map properties, final Class<?> clazz) {
+        final StringBuilder buf;
+        if (text.contains("${")) {
+            buf = new StringBuilder(text);
+        } else if (properties.containsKey(text)) {
+            // handle situations where someone missed out the main brackets
+            buf = new StringBuilder("${").append(text).append('}');
+        } else {
+            return text; // nothing to interpolate, maintain reference
+        }
+        int x = 0, y, expressionEnd = 0, expressionNum = 0;
+        while ((x = buf.indexOf("${", x)) >= 0 && (y = buf.indexOf("}", x) + 1) > 0) {
+            if (y > expressionEnd) // making progress
+            {
+                expressionNum = 0;
+                expressionEnd = y;
+            }
+            final String key = buf.substring(x + 2, y - 1);
+            final int anchor = key.indexOf(":-");
+            Object value = properties.get(anchor < 0 ? key : key.substring(0, anchor));
+            if (value == null && anchor >= 0) {
+                value = key.substring(anchor + 2);
+            }
+            if (expressionNum++ >= EXPRESSION_RECURSION_LIMIT) {
+                throw new ProvisionException("Recursive configuration: " + text + " stopped at: " + buf);
+            }
+            final int len = buf.length();
+            if (0 == x && len == y && String.class != clazz && clazz.isInstance(value)) {
+                return value; // found compatible (non-String) instance in the properties!
+            }
+            buf.replace(x, y, String.valueOf(value));
+            expressionEnd += buf.length() - len;
+        }
+        return nullify(buf.toString());
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("rawtypes")
+    private Object resolve(final Map properties, final int i) {
+        final Object value = properties.get(keys[i]);
+        return null != value ? value : defaults[i];
+    }
+}
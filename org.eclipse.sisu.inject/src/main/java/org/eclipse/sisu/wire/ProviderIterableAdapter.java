@@ -17,11 +17,12 @@ import java.util.Iterator;
 import java.util.Map.Entry;
 import javax.inject.Provider;
 import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * {@link Iterable} sequence of {@link Provider} entries backed by a sequence of {@link BeanEntry}s.
  */
-final class ProviderIterableAdapter<K extends Annotation, V> implements Iterable<Entry<K, Provider<V>>> {
+final class ProviderIterableAdapter<K extends Annotation, V> implements Iterable<Entry<K, Provider<V>>>, Versioned {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -45,6 +46,11 @@ final class ProviderIterableAdapter<K extends Annotation, V> implements Iterable
         return new ProviderIterator<>(delegate);
     }
 
+    @Override
+    public Object version() {
+        return EntrySnapshot.versionOf(delegate);
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import org.eclipse.sisu.inject.Versioned;
+
+/**
+ * Random-access {@link List} backed by an {@link Iterable} sequence of map entries.
+ * <p>
+ * Unlike {@link EntryListAdapter} the entries are read into a snapshot on first use, so {@link #size()} and
+ * {@link #get(int)} don't walk the sequence each time. The snapshot is refreshed when the sequence changes; sequences
+ * that don't implement {@link Versioned} are re-read on every call.
+ */
+public final class SnapshotListAdapter<V> extends AbstractList<V> implements RandomAccess {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final EntrySnapshot<Object, V> snapshot;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    public SnapshotListAdapter(final Iterable<? extends Entry<?, V>> iterable) {
+        snapshot = new EntrySnapshot<>((Iterable<? extends Entry<Object, V>>) iterable);
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public V get(final int index) {
+        return snapshot.entries()[index].getValue();
+    }
+
+    @Override
+    public int size() {
+        return snapshot.entries().length;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueList<>(snapshot.entries()).iterator();
+    }
+
+    @Override
+    public ListIterator<V> listIterator(final int index) {
+        return new ValueList<>(snapshot.entries()).listIterator(index);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Fixed {@link List} of values, so iterators see a consistent sequence even if the snapshot is refreshed.
+     */
+    static final class ValueList<V> extends AbstractList<V> implements RandomAccess {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Entry<?, V>[] entries;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        ValueList(final Entry<?, V>[] entries) {
+            this.entries = entries;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public V get(final int index) {
+            return entries[index].getValue();
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new ValueListIterator<>(entries, 0);
+        }
+
+        @Override
+        public ListIterator<V> listIterator(final int index) {
+            if (index < 0 || index > entries.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new ValueListIterator<>(entries, index);
+        }
+    }
+
+    /**
+     * Value {@link ListIterator} over a fixed array of entries.
+     * <p>
+     * The cursor moves before each value is fetched, so a value that fails to load is skipped on the next call.
+     */
+    private static final class ValueListIterator<V> implements ListIterator<V> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Entry<?, V>[] entries;
+
+        private int index;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        ValueListIterator(final Entry<?, V>[] entries, final int index) {
+            this.entries = entries;
+            this.index = index;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+            return index < entries.length;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public V next() {
+            if (index >= entries.length) {
+                throw new NoSuchElementException();
+            }
+            return entries[index++].getValue();
+        }
+
+        @Override
+        public V previous() {
+            if (index <= 0) {
+                throw new NoSuchElementException();
+            }
+            return entries[--index].getValue();
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(final V o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(final V o) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
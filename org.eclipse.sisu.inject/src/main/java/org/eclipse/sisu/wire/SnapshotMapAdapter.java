@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.sisu.inject.Versioned;
+
+/**
+ * {@link Map} backed by an {@link Iterable} sequence of map entries.
+ * <p>
+ * Unlike {@link EntryMapAdapter} the entries are read into a snapshot on first use, and indexed by key on the first
+ * keyed lookup, so {@link #size()} and {@link #get(Object)} don't walk the sequence each time. The snapshot is
+ * refreshed when the sequence changes; sequences that don't implement {@link Versioned} are re-read on every call.
+ */
+public final class SnapshotMapAdapter<K, V> extends AbstractMap<K, V> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    final EntrySnapshot<K, V> snapshot;
+
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    public SnapshotMapAdapter(final Iterable<? extends Entry<K, V>> iterable) {
+        snapshot = new EntrySnapshot<>(iterable);
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return snapshot.entries().length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.entries().length == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != snapshot.find(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Entry<K, V> entry = snapshot.find(key);
+        return null != entry ? entry.getValue() : null;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Entry {@link Set} backed by the current snapshot.
+     */
+    final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return Arrays.asList(snapshot.entries()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return snapshot.entries().length;
+        }
+    }
+}
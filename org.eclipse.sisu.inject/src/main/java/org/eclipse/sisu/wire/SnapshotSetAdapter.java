@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.eclipse.sisu.inject.Versioned;
+
+/**
+ * {@link Set} backed by an {@link Iterable} sequence of map entries.
+ * <p>
+ * Unlike {@link EntrySetAdapter} the entries are read into a snapshot on first use, so {@link #size()} doesn't walk
+ * the sequence each time. The snapshot is refreshed when the sequence changes; sequences that don't implement
+ * {@link Versioned} are re-read on every call.
+ */
+public final class SnapshotSetAdapter<V> extends AbstractSet<V> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final EntrySnapshot<Object, V> snapshot;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    public SnapshotSetAdapter(final Iterable<? extends Entry<?, V>> iterable) {
+        snapshot = new EntrySnapshot<>((Iterable<? extends Entry<Object, V>>) iterable);
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public Iterator<V> iterator() {
+        return new SnapshotListAdapter.ValueList<>(snapshot.entries()).iterator();
+    }
+
+    @Override
+    public int size() {
+        return snapshot.entries().length;
+    }
+}
@@ -41,6 +41,10 @@ class LifecycleManagerTest {
         // no lifecycle annotations
     }
 
+    static class EnhancedBean extends ManagedBean {
+        // simulates a proxied/enhanced subclass
+    }
+
     @Test
     void testManageClass() {
         final LifecycleManager manager = new LifecycleManager();
@@ -115,4 +119,34 @@ class LifecycleManagerTest {
         // After flushing, re-managing should re-build the lifecycle
         assertTrue(manager.manage(ManagedBean.class));
     }
+
+    @Test
+    void testEnhancedBeanUsesSuperclassLifecycle() {
+        final LifecycleManager manager = new LifecycleManager();
+
+        // resolved before the lifecycle exists
+        final EnhancedBean early = new EnhancedBean();
+        manager.manage(early);
+        assertFalse(early.started);
+
+        manager.manage(ManagedBean.class);
+
+        final EnhancedBean bean = new EnhancedBean();
+        manager.manage(bean);
+        assertTrue(bean.started);
+
+        manager.flushCacheFor(new LifecycleManager.ClassTester() {
+            @Override
+            public boolean shouldFlush(final Class<?> clz) {
+                return clz == ManagedBean.class;
+            }
+        });
+
+        final EnhancedBean late = new EnhancedBean();
+        manager.manage(late);
+        assertFalse(late.started);
+
+        assertTrue(manager.unmanage(bean));
+        assertFalse(bean.stopped);
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.name.Names;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Iterator;
+import javax.inject.Qualifier;
+import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.DefaultBeanLocatorMetrics.Stats;
+import org.eclipse.sisu.inject.RankedBindingsTest.Bean;
+import org.eclipse.sisu.inject.RankedBindingsTest.BeanImpl;
+import org.junit.jupiter.api.Test;
+
+class DefaultBeanLocatorMetricsTest {
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marked {}
+
+    static class ImplicitBean {}
+
+    @Test
+    void testMetricsNotBound() {
+        final Injector injector = Guice.createInjector();
+
+        final DefaultBeanLocator locator = injector.getInstance(DefaultBeanLocator.class);
+        assertNull(locator.getMetrics());
+    }
+
+    @Test
+    void testLookupMetrics() {
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(BeanLocatorMetrics.class).to(DefaultBeanLocatorMetrics.class);
+                bind(Bean.class)
+                        .annotatedWith(Names.named("A"))
+                        .to(BeanImpl.class)
+                        .in(Scopes.SINGLETON);
+                bind(Bean.class).annotatedWith(Names.named("B")).to(BeanImpl.class);
+                bind(Bean.class).annotatedWith(Marked.class).to(BeanImpl.class);
+            }
+        });
+
+        final BeanLocator locator = injector.getInstance(BeanLocator.class);
+        final DefaultBeanLocatorMetrics metrics = injector.getInstance(DefaultBeanLocatorMetrics.class);
+        assertSame(metrics, ((DefaultBeanLocator) locator).getMetrics());
+
+        final Key<Bean> key = Key.get(Bean.class, Names.named("A"));
+
+        Iterator<? extends BeanEntry<Annotation, Bean>> itr =
+                locator.<Annotation, Bean>locate(key).iterator();
+
+        assertTrue(itr.hasNext());
+        assertNotNull(itr.next().getValue());
+
+        itr = locator.locate(key).iterator();
+        assertTrue(itr.hasNext());
+        // cached singleton, so no further provisioning is recorded
+        assertNotNull(itr.next().getValue());
+
+        final Stats stats = metrics.get(key);
+        assertSame(stats, metrics.get(Key.get(Bean.class, Names.named("A"))));
+        assertEquals(2, stats.getLookups());
+        assertEquals(1, stats.getCacheHits());
+        assertEquals(0, stats.getQualifierRejects());
+        assertEquals(0, stats.getImplicitFallbacks());
+        assertEquals(1, stats.getProvisions());
+
+        long histogramTotal = 0;
+        for (final long count : stats.getProvisionHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(1, histogramTotal);
+
+        final Key<Bean> markedKey = Key.get(Bean.class, Marked.class);
+        for (final BeanEntry<Annotation, Bean> entry : locator.<Annotation, Bean>locate(markedKey)) {
+            assertNotNull(entry.getValue());
+        }
+        assertEquals(2, metrics.get(markedKey).getQualifierRejects());
+
+        assertEquals(2, metrics.getAll().size());
+        assertSame(stats, metrics.getAll().get(key));
+
+        metrics.reset();
+        assertNull(metrics.get(markedKey));
+        assertNull(metrics.get(key));
+        assertTrue(metrics.getAll().isEmpty());
+
+        locator.locate(key);
+        assertEquals(1, metrics.get(key).getLookups());
+        assertEquals(1, metrics.getAll().size());
+    }
+
+    @Test
+    void testStatsDoNotPinClassLoaders() throws Exception {
+        final DefaultBeanLocatorMetrics metrics = new DefaultBeanLocatorMetrics();
+        final Reference<ClassLoader> loaderRef = recordIsolatedLookup(metrics);
+        assertEquals(1, metrics.getAll().size());
+
+        for (int i = 0; i < 100 && null != loaderRef.get(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loaderRef.get());
+        assertTrue(metrics.getAll().isEmpty());
+    }
+
+    @Test
+    void testImplicitFallbacks() {
+        final DefaultBeanLocatorMetrics metrics = new DefaultBeanLocatorMetrics();
+        final DefaultBeanLocator locator = new DefaultBeanLocator();
+        locator.setMetrics(metrics);
+        locator.add(new InjectorBindings(Guice.createInjector()));
+
+        final Key<ImplicitBean> key = Key.get(ImplicitBean.class);
+        assertTrue(locator.locate(key).iterator().hasNext());
+
+        assertEquals(1, metrics.get(key).getLookups());
+        assertEquals(1, metrics.get(key).getImplicitFallbacks());
+
+        // result is remembered until the publishers change, but the fallback is still counted
+        assertTrue(locator.locate(key).iterator().hasNext());
+        assertEquals(2, metrics.get(key).getLookups());
+        assertEquals(2, metrics.get(key).getImplicitFallbacks());
+
+        locator.add(new InjectorBindings(Guice.createInjector()));
+        assertTrue(locator.locate(key).iterator().hasNext());
+        assertEquals(3, metrics.get(key).getLookups());
+        assertEquals(3, metrics.get(key).getImplicitFallbacks());
+    }
+
+    private static Reference<ClassLoader> recordIsolatedLookup(final DefaultBeanLocatorMetrics metrics)
+            throws Exception {
+        final URL[] path = {
+            ImplicitBean.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        final ClassLoader loader = new URLClassLoader(path, null);
+        metrics.lookup(Key.get(loader.loadClass(ImplicitBean.class.getName())));
+        return new WeakReference<>(loader);
+    }
+}
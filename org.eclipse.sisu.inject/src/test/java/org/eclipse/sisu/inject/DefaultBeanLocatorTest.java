@@ -12,6 +12,7 @@ package org.eclipse.sisu.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -20,9 +21,13 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import org.eclipse.sisu.inject.RankedBindingsTest.Bean;
@@ -131,6 +136,222 @@ class DefaultBeanLocatorTest {
         }
     }
 
+    @Test
+    void testConcurrentLookupAndPublish() throws InterruptedException {
+        for (int n = 0; n < 100; n++) {
+            final MutableBeanLocator locator = new DefaultBeanLocator();
+            final Thread publisher = new Thread(() -> {
+                locator.add(new InjectorBindings(parent, new DefaultRankingFunction(0)));
+                locator.add(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+                locator.add(new InjectorBindings(child3, new DefaultRankingFunction(3)));
+                locator.remove(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+            });
+            publisher.start();
+            locator.locate(Key.get(Bean.class)).iterator().hasNext();
+            publisher.join();
+
+            int count = 0;
+            for (final Object bean : locator.locate(Key.get(Bean.class))) {
+                count++;
+            }
+            assertEquals(6, count);
+        }
+    }
+
+    @Test
+    void testSharedSingletonEntries() {
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class)
+                        .annotatedWith(Names.named("S"))
+                        .to(BeanImpl.class)
+                        .in(Scopes.SINGLETON);
+                bind(Bean.class).annotatedWith(Names.named("U")).to(BeanImpl.class);
+            }
+        });
+
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        locator.add(new InjectorBindings(injector, new DefaultRankingFunction(0)));
+
+        final Iterator<? extends Entry<Named, Bean>> i =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class)).iterator();
+        final Iterator<? extends Entry<Named, Bean>> j =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class)).iterator();
+
+        // singleton entries are shared between lookups, unscoped entries are not
+        assertSame(i.next(), j.next());
+        final Entry<Named, Bean> unscoped = i.next();
+        assertFalse(unscoped == j.next());
+        assertSame(unscoped.getValue(), unscoped.getValue());
+    }
+
+    @Test
+    void testFrozenLocator() {
+        final DefaultBeanLocator frozenLocator = new DefaultBeanLocator();
+        final MutableBeanLocator locator = frozenLocator;
+        locator.add(new InjectorBindings(parent, new DefaultRankingFunction(0)));
+
+        assertFalse(frozenLocator.isFrozen());
+        frozenLocator.freeze();
+        assertTrue(frozenLocator.isFrozen());
+
+        final Iterable<? extends Entry<Named, Bean>> beans =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class));
+
+        // unscoped beans must not be shared between lookups, even when frozen
+        final Iterable<? extends Entry<Named, Bean>> unscoped =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("A")));
+        final Bean unscopedBean = unscoped.iterator().next().getValue();
+        assertSame(unscopedBean, unscoped.iterator().next().getValue());
+        assertNotSame(
+                unscopedBean,
+                locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("A")))
+                        .iterator()
+                        .next()
+                        .getValue());
+
+        Iterator<? extends Entry<Named, Bean>> i = beans.iterator();
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        try {
+            i.next();
+            fail("Expected NoSuchElementException");
+        } catch (final NoSuchElementException e) {
+            // expected
+        }
+
+        try {
+            i.remove();
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException e) {
+            // expected
+        }
+
+        i = locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("M1"))).iterator();
+        assertFalse(i.hasNext());
+
+        // adding a publisher invalidates the snapshots
+        locator.add(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+
+        i = locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("M1"))).iterator();
+        assertTrue(i.hasNext());
+        assertEquals(Names.named("M1"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        i = locator.<Named, Bean>locate(Key.get(Bean.class, Named.class)).iterator();
+        assertEquals(QualifyingStrategy.DEFAULT_QUALIFIER, i.next().getKey());
+        assertEquals(Names.named("M1"), i.next().getKey());
+        assertEquals(Names.named("N1"), i.next().getKey());
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        // as does removing one
+        locator.remove(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+
+        // singleton entries are shared between frozen lookups
+        final Injector singletons = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class)
+                        .annotatedWith(Names.named("S"))
+                        .to(BeanImpl.class)
+                        .in(Scopes.SINGLETON);
+            }
+        });
+        locator.add(new InjectorBindings(singletons, new DefaultRankingFunction(2)));
+
+        final Iterable<? extends Entry<Named, Bean>> shared =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("S")));
+        assertSame(
+                shared.iterator().next(),
+                locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("S")))
+                        .iterator()
+                        .next());
+        assertSame(
+                shared.iterator().next().getValue(),
+                locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("S")))
+                        .iterator()
+                        .next()
+                        .getValue());
+
+        locator.remove(new InjectorBindings(singletons, new DefaultRankingFunction(2)));
+
+        i = locator.<Named, Bean>locate(Key.get(Bean.class, Names.named("M1"))).iterator();
+        assertFalse(i.hasNext());
+
+        frozenLocator.thaw();
+        assertFalse(frozenLocator.isFrozen());
+
+        final Iterable<? extends Entry<Named, Bean>> thawed =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class));
+        assertFalse(thawed == locator.<Named, Bean>locate(Key.get(Bean.class, Named.class)));
+        i = thawed.iterator();
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+    }
+
+    @Test
+    void testFrozenLocatorStaysDynamic() {
+        final DefaultBeanLocator frozenLocator = new DefaultBeanLocator();
+        final MutableBeanLocator locator = frozenLocator;
+        locator.add(new InjectorBindings(parent, new DefaultRankingFunction(0)));
+        frozenLocator.freeze();
+
+        final Iterable<? extends Entry<Named, Bean>> beans =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class));
+
+        Iterator<? extends Entry<Named, Bean>> i = beans.iterator();
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        // sequences held across changes must follow them, same as a thawed locator
+        locator.add(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+
+        i = beans.iterator();
+        assertEquals(QualifyingStrategy.DEFAULT_QUALIFIER, i.next().getKey());
+        assertEquals(Names.named("M1"), i.next().getKey());
+        assertEquals(Names.named("N1"), i.next().getKey());
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        // unscoped entries stay the same for the held sequence until its snapshot changes
+        final Entry<Named, Bean> unscoped = beans.iterator().next();
+        assertSame(unscoped, beans.iterator().next());
+
+        locator.remove(new InjectorBindings(parent, new DefaultRankingFunction(0)));
+
+        i = beans.iterator();
+        assertEquals(QualifyingStrategy.DEFAULT_QUALIFIER, i.next().getKey());
+        assertEquals(Names.named("M1"), i.next().getKey());
+        assertEquals(Names.named("N1"), i.next().getKey());
+        assertFalse(i.hasNext());
+
+        frozenLocator.thaw();
+
+        locator.remove(new InjectorBindings(child1, new DefaultRankingFunction(1)));
+        assertFalse(beans.iterator().hasNext());
+
+        locator.add(new InjectorBindings(parent, new DefaultRankingFunction(0)));
+
+        i = beans.iterator();
+        assertEquals(Names.named("A"), i.next().getKey());
+        assertEquals(Names.named("-"), i.next().getKey());
+        assertEquals(Names.named("Z"), i.next().getKey());
+        assertFalse(i.hasNext());
+    }
+
     @Test
     void testInjectorPublisherEquality() {
         final RankingFunction function1 = new DefaultRankingFunction(1);
@@ -352,6 +573,46 @@ class DefaultBeanLocatorTest {
         locator.clear();
     }
 
+    interface Handler<T> {}
+
+    static class StringHandler implements Handler<String>, Runnable {
+        @Override
+        public void run() {
+            // nothing to do
+        }
+    }
+
+    static class SubStringHandler extends StringHandler {}
+
+    @Test
+    void testWildcardBindings() {
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Object.class).annotatedWith(Names.named("S")).to(StringHandler.class);
+                bind(Object.class).annotatedWith(Names.named("SS")).to(SubStringHandler.class);
+            }
+        });
+
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        publishInjector(locator, injector, 0);
+
+        assertEquals("[S, SS]", names(locator.locate(Key.get(Runnable.class, Named.class))));
+        assertEquals("[S, SS]", names(locator.locate(Key.get(new TypeLiteral<Handler<String>>() {}, Named.class))));
+        assertEquals("[]", names(locator.locate(Key.get(new TypeLiteral<Handler<Integer>>() {}, Named.class))));
+        assertEquals("[SS]", names(locator.locate(Key.get(StringHandler.class, Named.class))));
+        assertEquals("[]", names(locator.locate(Key.get(SubStringHandler.class, Named.class))));
+        assertEquals("[S, SS]", names(locator.locate(Key.get(Object.class, Named.class))));
+    }
+
+    private static String names(final Iterable<? extends Entry<Named, ?>> entries) {
+        final List<String> names = new ArrayList<>();
+        for (final Entry<Named, ?> e : entries) {
+            names.add(e.getKey().value());
+        }
+        return names.toString();
+    }
+
     private static void publishInjector(final MutableBeanLocator locator, final Injector injector, final int rank) {
         locator.add(new InjectorBindings(injector, new DefaultRankingFunction(rank)));
     }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.TypeLiteral;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class RankedBindingsCacheTest {
+    @Test
+    void testBasicOperations() {
+        final RankedBindingsCache cache = new RankedBindingsCache();
+
+        final TypeLiteral<String> stringType = TypeLiteral.get(String.class);
+        final TypeLiteral<Integer> integerType = TypeLiteral.get(Integer.class);
+
+        assertNull(cache.get(1, stringType));
+
+        final RankedBindings strings = new RankedBindings(stringType, null);
+        assertNull(cache.putIfAbsent(1, strings));
+        assertSame(strings, cache.get(1, stringType));
+        assertSame(strings, cache.putIfAbsent(1, new RankedBindings(stringType, null)));
+
+        // same id, different type: collision must be resolved by type
+        assertNull(cache.get(1, integerType));
+        final RankedBindings integers = new RankedBindings(integerType, null);
+        assertNull(cache.putIfAbsent(1, integers));
+        assertSame(integers, cache.get(1, integerType));
+        assertSame(strings, cache.get(1, stringType));
+
+        assertEquals(2, cache.values().size());
+    }
+
+    @Test
+    void testResize() {
+        final RankedBindingsCache cache = new RankedBindingsCache();
+
+        final List<RankedBindings> bindings = new ArrayList<>();
+        final TypeLiteral<String> type = TypeLiteral.get(String.class);
+        for (int i = 0; i < 5000; i++) {
+            final RankedBindings rb = new RankedBindings(type, null);
+            bindings.add(rb);
+            assertNull(cache.putIfAbsent(i, rb));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertSame(bindings.get(i), cache.get(i, type));
+        }
+        assertEquals(5000, cache.values().size());
+    }
+
+    @Test
+    void testConcurrentInsertion() throws InterruptedException {
+        final RankedBindingsCache cache = new RankedBindingsCache();
+
+        final int threadCount = 8, typeCount = 1000; // distinct type ids
+
+        final AtomicReferenceArray<RankedBindings> winners = new AtomicReferenceArray<>(typeCount);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = new ArrayList<>();
+
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    final TypeLiteral type = TypeLiteral.get(String.class);
+                    for (int i = 0; i < typeCount; i++) {
+                        RankedBindings rb = cache.get(i, type);
+                        if (null == rb) {
+                            final RankedBindings newRB = new RankedBindings(type, null);
+                            rb = cache.putIfAbsent(i, newRB);
+                            if (null == rb) {
+                                rb = newRB;
+                            }
+                        }
+                        if (!winners.compareAndSet(i, null, rb) && winners.get(i) != rb) {
+                            throw new AssertionError("Different bindings returned for " + i);
+                        }
+                    }
+                } catch (final Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertEquals(typeCount, cache.values().size());
+    }
+
+    @Test
+    void testEviction() {
+        final RankedBindingsCache cache = new RankedBindingsCache();
+
+        final RankedBindings rb = new RankedBindings(TypeLiteral.get(String.class), null);
+        assertNull(cache.putIfAbsent(1, rb));
+        for (int i = 0; i < 100; i++) {
+            cache.putIfAbsent(i + 2, new RankedBindings(TypeLiteral.get(String.class), null));
+        }
+
+        int gcCount = 0;
+        do {
+            System.gc();
+            cache.compact();
+        } while (cache.values().size() > 1 && ++gcCount < 100);
+
+        assertEquals(1, cache.values().size());
+        assertSame(rb, cache.get(1, TypeLiteral.get(String.class)));
+    }
+}
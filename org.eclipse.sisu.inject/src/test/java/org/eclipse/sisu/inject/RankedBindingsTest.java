@@ -12,6 +12,7 @@ package org.eclipse.sisu.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -247,4 +248,113 @@ class RankedBindingsTest {
         assertFalse(itr.hasNext());
         assertFalse(itr.hasNext());
     }
+
+    @Test
+    void testNamedIndex() {
+        final BindingPublisher publisher1 = new InjectorBindings(injector1, new DefaultRankingFunction(1));
+        final BindingPublisher publisher2 = new InjectorBindings(injector2, new DefaultRankingFunction(2));
+        final BindingPublisher publisher3 = new InjectorBindings(injector3, new DefaultRankingFunction(3));
+
+        final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), null);
+
+        Iterator<Binding<Bean>> itr = bindings.iterator("2");
+
+        assertFalse(itr.hasNext());
+
+        try {
+            itr.next();
+            fail("Expected NoSuchElementException");
+        } catch (final NoSuchElementException e) {
+            // expected
+        }
+
+        bindings.add(publisher1, 1);
+        bindings.add(publisher3, 3);
+
+        assertFalse(itr.hasNext());
+        assertEquals(2, bindings.bindings.size());
+
+        bindings.add(publisher2, 2);
+
+        assertTrue(itr.hasNext());
+        assertEquals(4, bindings.bindings.size());
+        assertEquals(Names.named("2"), itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        itr = bindings.iterator("3");
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("3"), itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        itr = bindings.iterator("1");
+        bindings.remove(publisher1);
+        assertFalse(itr.hasNext());
+
+        // unqualified bindings are also reachable by their default name
+        itr = bindings.iterator("default");
+        assertTrue(itr.hasNext());
+        assertNull(itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        assertFalse(bindings.iterator("").hasNext());
+    }
+
+    @Test
+    void testEmptyNamedSequencesAreDropped() {
+        final BindingPublisher publisher1 = new InjectorBindings(injector1, new DefaultRankingFunction(1));
+        final BindingPublisher publisher2 = new InjectorBindings(injector2, new DefaultRankingFunction(2));
+
+        final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), null);
+
+        bindings.add(publisher2, 2);
+        assertTrue(bindings.iterator("2").hasNext());
+
+        for (int i = 0; i < 3; i++) {
+            bindings.add(publisher1, 1);
+            assertTrue(bindings.iterator("1").hasNext());
+            assertNotNull(bindings.namedSequence("1"));
+
+            bindings.remove(publisher1);
+            assertFalse(bindings.iterator("1").hasNext());
+            assertNull(bindings.namedSequence("1"));
+        }
+
+        // only names that still have bindings are kept
+        assertEquals(2, bindings.namedBindings.size());
+        assertNotNull(bindings.namedSequence("2"));
+        assertNotNull(bindings.namedSequence("default"));
+
+        bindings.remove(publisher2);
+        assertTrue(bindings.namedBindings.isEmpty());
+    }
+
+    @Test
+    void testNamedIteratorFollowsReplacedSequence() {
+        final BindingPublisher publisher1 = new InjectorBindings(injector1, new DefaultRankingFunction(1));
+        final BindingPublisher publisher1b = new InjectorBindings(
+                Guice.createInjector(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(Bean.class).annotatedWith(Names.named("1")).to(BeanImpl2.class);
+                    }
+                }),
+                new DefaultRankingFunction(1));
+
+        final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), null);
+
+        bindings.add(publisher1, 1);
+        final Iterator<Binding<Bean>> itr = bindings.iterator("1");
+        assertTrue(itr.hasNext());
+        assertEquals(BeanImpl.class, itr.next().getProvider().get().getClass());
+
+        // drops the named sequence the iterator is using, then indexes a new one under the same name
+        bindings.remove(publisher1);
+        assertFalse(itr.hasNext());
+        bindings.add(publisher1b, 1);
+        assertTrue(bindings.iterator("1").hasNext());
+
+        assertTrue(itr.hasNext());
+        assertEquals(BeanImpl2.class, itr.next().getProvider().get().getClass());
+        assertFalse(itr.hasNext());
+    }
 }
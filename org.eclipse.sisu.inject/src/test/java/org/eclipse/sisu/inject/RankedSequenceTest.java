@@ -119,6 +119,100 @@ class RankedSequenceTest {
         assertEquals("G2", itr.next());
     }
 
+    @Test
+    void testLargeSequence() {
+        final RankedSequence<Integer> list = new RankedSequence<>();
+        final List<Integer> expected = new ArrayList<>();
+
+        // enough elements to need several levels of chunks
+        for (int i = 0; i < 10000; i++) {
+            final Integer element = i;
+            list.insert(element, i % 100);
+            expected.add(element);
+        }
+        expected.sort((a, b) -> a % 100 != b % 100 ? b % 100 - a % 100 : a - b);
+
+        assertEquals(10000, list.size());
+        assertEquals(expected.get(0), list.peek());
+        assertEquals(expected, toList(list));
+        assertEquals(expected, list.snapshot());
+
+        final Iterator<Integer> itr = list.iterator();
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(expected.get(i), itr.next());
+        }
+
+        // remove every other element, while the iterator is half-way through
+        for (int i = 0; i < 10000; i += 2) {
+            assertEquals(Integer.valueOf(i), list.remove(i));
+        }
+        expected.removeIf(i -> i % 2 == 0);
+
+        assertEquals(5000, list.size());
+        assertEquals(expected, toList(list));
+
+        int remaining = 0;
+        while (itr.hasNext()) {
+            assertTrue(itr.next() % 2 != 0);
+            remaining++;
+        }
+        assertEquals(2500, remaining);
+
+        for (final Integer i : expected) {
+            assertTrue(list.removeThis(i));
+        }
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsUnaffectedByChanges() {
+        final RankedSequence<Integer> list = new RankedSequence<>();
+        for (int i = 0; i < 1000; i++) {
+            list.insert(i, 0);
+        }
+        final List<Integer> expected = toList(list);
+        final List<Integer> snapshot = (List<Integer>) list.snapshot();
+
+        for (int i = 0; i < 1000; i += 2) {
+            list.removeThis(i);
+            list.insert(-i, 1);
+        }
+
+        assertEquals(expected, snapshot);
+        assertEquals(1000, snapshot.size());
+        assertEquals(Integer.valueOf(999), snapshot.get(999));
+        assertEquals(Integer.valueOf(0), list.snapshot().iterator().next());
+    }
+
+    @Test
+    void testChurnKeepsTreeBalanced() {
+        final RankedSequence<Integer> list = new RankedSequence<>();
+        final List<Integer> live = new ArrayList<>();
+        final List<Integer> ranks = new ArrayList<>();
+        final Random churn = new Random(42);
+
+        for (int round = 0; round < 20; round++) {
+            // grow, then shrink most of the way back by removing elements from random positions
+            while (live.size() < 5000) {
+                final Integer element = ranks.size();
+                final int rank = churn.nextInt(50);
+                list.insert(element, rank);
+                live.add(element);
+                ranks.add(rank);
+            }
+            while (live.size() > 100) {
+                assertTrue(list.removeThis(live.remove(churn.nextInt(live.size()))));
+            }
+            assertEquals(live.size(), list.size());
+            checkBalanced(list.content.root, true);
+        }
+
+        // elements are ranked in descending order, then by insertion order
+        live.sort((a, b) -> ranks.get(a).equals(ranks.get(b)) ? a - b : ranks.get(b) - ranks.get(a));
+        assertEquals(live, toList(list));
+        assertEquals(live, list.snapshot());
+    }
+
     @Test
     void testEmptyList() {
         final Iterator<Object> itr = new RankedSequence<>().iterator();
@@ -235,4 +329,31 @@ class RankedSequenceTest {
             }
         }
     }
+
+    private static <T> List<T> toList(final Iterable<T> iterable) {
+        final List<T> list = new ArrayList<>();
+        for (final T element : iterable) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Checks every node apart from the root is at least a quarter full and that all leaves are at the same depth.
+     *
+     * @return Depth of the leaves
+     */
+    private static int checkBalanced(final RankedSequence.Node node, final boolean isRoot) {
+        if (node instanceof RankedSequence.Leaf) {
+            assertTrue(isRoot || ((RankedSequence.Leaf) node).objs.length >= RankedSequence.Leaf.MIN_SIZE);
+            return 0;
+        }
+        final RankedSequence.Node[] nodes = ((RankedSequence.Branch) node).nodes;
+        assertTrue(nodes.length >= (isRoot ? 2 : RankedSequence.Branch.MIN_SIZE));
+        final int depth = checkBalanced(nodes[0], false);
+        for (int i = 1; i < nodes.length; i++) {
+            assertEquals(depth, checkBalanced(nodes[i], false));
+        }
+        return depth + 1;
+    }
 }
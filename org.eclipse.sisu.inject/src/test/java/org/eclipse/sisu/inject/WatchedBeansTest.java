@@ -21,6 +21,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.name.Names;
+import java.util.Arrays;
 import java.util.Iterator;
 import javax.inject.Named;
 import org.eclipse.sisu.BeanEntry;
@@ -174,6 +175,37 @@ class WatchedBeansTest {
         unpublishInjector(locator, parent);
     }
 
+    @Test
+    void testBatchPublishers() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        final RankedSequence<String> names = new RankedSequence<>();
+
+        locator.watch(Key.get(Bean.class, Named.class), new RankingMediator(), names);
+
+        final BindingPublisher parentBindings = new InjectorBindings(parent, new DefaultRankingFunction(0));
+        final BindingPublisher child1Bindings = new InjectorBindings(child1, new DefaultRankingFunction(1));
+        final BindingPublisher child3Bindings = new InjectorBindings(child3, new DefaultRankingFunction(3));
+
+        assertTrue(locator.addAll(Arrays.asList(parentBindings, child1Bindings, child3Bindings, parentBindings)));
+        assertFalse(locator.addAll(Arrays.asList(parentBindings, child1Bindings)));
+
+        checkNames(names, "Z", "X", "A", "B", "C");
+
+        final Iterator<? extends BeanEntry<Named, Bean>> i =
+                locator.<Named, Bean>locate(Key.get(Bean.class, Named.class)).iterator();
+        assertEquals("Z", i.next().getKey().value());
+        assertEquals("X", i.next().getKey().value());
+
+        assertTrue(locator.removeAll(Arrays.asList(child3Bindings, parentBindings)));
+        assertFalse(locator.removeAll(Arrays.asList(child3Bindings, parentBindings)));
+
+        checkNames(names, "X");
+
+        locator.clear();
+
+        checkNames(names);
+    }
+
     static class BrokenMediator implements Mediator<Named, Bean, Object> {
         @Override
         public void add(final BeanEntry<Named, Bean> entry, final Object watcher) {
@@ -16,12 +16,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +41,10 @@ class AbstractSisuIndexTest {
 
         final Map<String, StringWriter> outputData = new HashMap<>();
 
+        final Map<String, byte[]> inputBytes = new HashMap<>();
+
+        final Map<String, ByteArrayOutputStream> outputBytes = new HashMap<>();
+
         final List<String> infoMessages = new ArrayList<>();
 
         final List<String> warnMessages = new ArrayList<>();
@@ -64,6 +74,22 @@ class AbstractSisuIndexTest {
             outputData.put(path, writer);
             return writer;
         }
+
+        @Override
+        protected InputStream getInputStream(final String path) throws IOException {
+            final byte[] content = inputBytes.get(path);
+            if (null != content) {
+                return new ByteArrayInputStream(content);
+            }
+            throw new IOException("No such file: " + path);
+        }
+
+        @Override
+        protected OutputStream getOutputStream(final String path) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputBytes.put(path, out);
+            return out;
+        }
     }
 
     @Test
@@ -136,4 +162,72 @@ class AbstractSisuIndexTest {
         assertTrue(alphaPos < middlePos);
         assertTrue(middlePos < zebraPos);
     }
+
+    @Test
+    void testClassRecords() throws IOException {
+        final TestSisuIndex index = new TestSisuIndex();
+        index.addClassToIndex("javax.inject.Named", "com.example.Foo");
+        index.addClassRecord("javax.inject.Named", record("com/example/Foo", "foo"));
+        index.addClassRecord("javax.inject.Named", record("com/example/Stale", "stale"));
+        index.flushIndex();
+
+        final byte[] table =
+                index.outputBytes.get("META-INF/sisu/javax.inject.Named.bin").toByteArray();
+        final List<RecordedClass> records = RecordedClass.readTable(new ByteArrayInputStream(table), null, null);
+        assertEquals(1, records.size()); // classes missing from the text table are dropped
+        assertEquals("com/example/Foo", records.get(0).getName());
+
+        // existing records are kept when the index is updated
+        final TestSisuIndex update = new TestSisuIndex();
+        update.inputData.put("META-INF/sisu/javax.inject.Named", "com.example.Foo\n");
+        update.inputBytes.put("META-INF/sisu/javax.inject.Named.bin", table);
+        update.addClassToIndex("javax.inject.Named", "com.example.Bar");
+        update.addClassRecord("javax.inject.Named", record("com/example/Bar", "bar"));
+        update.flushIndex();
+
+        final byte[] updatedTable =
+                update.outputBytes.get("META-INF/sisu/javax.inject.Named.bin").toByteArray();
+        final List<String> names = new ArrayList<>();
+        for (final RecordedClass clazz : RecordedClass.readTable(new ByteArrayInputStream(updatedTable), null, null)) {
+            names.add(clazz.getName());
+        }
+        assertEquals(Arrays.asList("com/example/Bar", "com/example/Foo"), names);
+    }
+
+    @Test
+    void testTablesAreListedInHeader() {
+        final TestSisuIndex index = new TestSisuIndex();
+        index.addClassToIndex("javax.inject.Named", "com.example.Foo");
+        index.addClassRecord("javax.inject.Named", record("com/example/Foo", "foo"));
+        index.addClassToIndex("javax.inject.Qualifier", "com.example.Bar");
+        index.flushIndex();
+
+        assertEquals(
+                "#sisu-tables: .bin\ncom.example.Foo\n",
+                index.outputData
+                        .get("META-INF/sisu/javax.inject.Named")
+                        .toString()
+                        .replace(System.lineSeparator(), "\n"));
+        assertEquals(
+                "com.example.Bar\n",
+                index.outputData
+                        .get("META-INF/sisu/javax.inject.Qualifier")
+                        .toString()
+                        .replace(System.lineSeparator(), "\n"));
+
+        // the header is not mistaken for an indexed class when the index is updated
+        final TestSisuIndex update = new TestSisuIndex();
+        update.inputData.put(
+                "META-INF/sisu/javax.inject.Named",
+                index.outputData.get("META-INF/sisu/javax.inject.Named").toString());
+        assertEquals(Collections.singleton("com.example.Foo"), update.getIndexedClasses("javax.inject.Named"));
+    }
+
+    private static RecordedClass record(final String name, final String value) {
+        final RecordedClass clazz = new RecordedClass(null);
+        clazz.enterClass(1, name, "java/lang/Object", null);
+        clazz.visitAnnotation("Ljavax/inject/Named;").visitElement("value", value);
+        clazz.leaveClass();
+        return clazz;
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+@BaseTests
+class CachedClassFinderTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testPersistentCache() throws IOException {
+        final File jar = new File(tempDir, "beans.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (int i = 0; i < 4; i++) {
+                final String name = "cached/Bean" + i;
+                out.putNextEntry(new ZipEntry(name + ".class"));
+                out.write(generateClass(name, i % 2 == 0));
+                out.closeEntry();
+            }
+        }
+
+        final File cacheDir = new File(tempDir, "cache");
+        final URL[] path = {jar.toURI().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(path, getClass().getClassLoader())) {
+            final ClassSpace space = new URLClassSpace(loader, path);
+
+            final List<String> scanned = new ArrayList<>();
+            new SpaceScanner(space, SpaceModule.LOCAL_SCAN, true)
+                    .accept(new QualifiedTypeVisitor((clazz, source) -> scanned.add(clazz.getName())));
+
+            final List<String> cached = new ArrayList<>();
+            new SpaceScanner(space, new CachedClassFinder(cacheDir), true)
+                    .accept(new QualifiedTypeVisitor((clazz, source) -> cached.add(clazz.getName())));
+
+            assertEquals(Collections.singletonList("cached.Bean0"), scanned.subList(0, 1));
+            assertEquals(scanned, cached);
+
+            final File[] cacheFiles = cacheDir.listFiles();
+            assertEquals(1, cacheFiles.length);
+
+            // only annotated classes are remembered
+            assertEquals(2, count(new CachedClassFinder(cacheDir).findClasses(space)));
+
+            // unchanged JARs are not rescanned, so edits to the cache are visible
+            final List<String> lines = Files.readAllLines(cacheFiles[0].toPath(), StandardCharsets.UTF_8);
+            Files.write(cacheFiles[0].toPath(), lines.subList(0, 3), StandardCharsets.UTF_8);
+            assertEquals(1, count(new CachedClassFinder(cacheDir).findClasses(space)));
+
+            // changed JARs are rescanned
+            jar.setLastModified(jar.lastModified() + 10000);
+            assertEquals(2, count(new CachedClassFinder(cacheDir).findClasses(space)));
+        }
+    }
+
+    @Test
+    void testSharedCacheIsIgnored() throws IOException {
+        assumeTrue(
+                tempDir.toPath().getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        final File jar = new File(tempDir, "beans.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (int i = 0; i < 4; i++) {
+                final String name = "shared/Bean" + i;
+                out.putNextEntry(new ZipEntry(name + ".class"));
+                out.write(generateClass(name, i % 2 == 0));
+                out.closeEntry();
+            }
+        }
+
+        final File cacheDir = new File(tempDir, "cache");
+        final URL[] path = {jar.toURI().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(path, getClass().getClassLoader())) {
+            final ClassSpace space = new URLClassSpace(loader, path);
+
+            // new cache directories are private
+            assertEquals(2, count(new CachedClassFinder(cacheDir).findClasses(space)));
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDir.toPath())));
+
+            final File cacheFile = cacheDir.listFiles()[0];
+            final List<String> lines = Files.readAllLines(cacheFile.toPath(), StandardCharsets.UTF_8);
+            Files.write(cacheFile.toPath(), lines.subList(0, 3), StandardCharsets.UTF_8);
+            assertEquals(1, count(new CachedClassFinder(cacheDir).findClasses(space)));
+
+            // cache files that others can write are not trusted
+            Files.setPosixFilePermissions(cacheFile.toPath(), PosixFilePermissions.fromString("rw-rw-rw-"));
+            assertEquals(2, count(new CachedClassFinder(cacheDir).findClasses(space)));
+
+            // nor is anything in a cache directory that others can write
+            Files.write(cacheFile.toPath(), lines.subList(0, 3), StandardCharsets.UTF_8);
+            Files.setPosixFilePermissions(cacheFile.toPath(), PosixFilePermissions.fromString("rw-------"));
+            Files.setPosixFilePermissions(cacheDir.toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+            assertEquals(2, count(new CachedClassFinder(cacheDir).findClasses(space)));
+            assertEquals(
+                    3,
+                    Files.readAllLines(cacheFile.toPath(), StandardCharsets.UTF_8)
+                            .size());
+            assertFalse(cacheDir.listFiles().length > 1);
+        }
+    }
+
+    @Test
+    void testDirectoriesAreScanned() {
+        final ClassSpace space = new URLClassSpace(
+                getClass().getClassLoader(), new URL[] {getClass().getResource("")});
+
+        assertEquals(
+                count(SpaceModule.LOCAL_SCAN.findClasses(space)),
+                count(new CachedClassFinder(tempDir).findClasses(space)));
+    }
+
+    private static int count(final Enumeration<URL> e) {
+        int n = 0;
+        while (e.hasMoreElements()) {
+            e.nextElement();
+            n++;
+        }
+        return n;
+    }
+
+    private static byte[] generateClass(final String name, final boolean named) {
+        final ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, "java/lang/Object", null);
+        if (named) {
+            cw.visitAnnotation("Ljavax/inject/Named;", true).visitEnd();
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+}
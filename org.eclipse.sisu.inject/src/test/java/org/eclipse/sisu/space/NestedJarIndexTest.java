@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@BaseTests
+class NestedJarIndexTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testStoredNestedJar() throws IOException {
+        checkNestedJar(ZipEntry.STORED);
+    }
+
+    @Test
+    void testDeflatedNestedJar() throws IOException {
+        checkNestedJar(ZipEntry.DEFLATED);
+    }
+
+    @Test
+    void testChangedArchiveIsReindexed() throws IOException {
+        final File war = new File(tempDir, "changed.war");
+        writeWar(war, ZipEntry.STORED, "before");
+
+        final URL jarURL = new URL("jar:" + war.toURI().toURL() + "!/WEB-INF/lib/nested.jar");
+        assertEquals("before", read(NestedJarIndex.forURL(jarURL).getInputStream("text/0.txt")));
+
+        writeWar(war, ZipEntry.STORED, "after!");
+        war.setLastModified(war.lastModified() + 2000);
+        assertEquals("after!", read(NestedJarIndex.forURL(jarURL).getInputStream("text/0.txt")));
+    }
+
+    @Test
+    void testUnflaggedEntryNames() throws IOException {
+        // names written without the UTF-8 flag are still decoded as UTF-8, same as the JDK
+        final ByteArrayOutputStream jarBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream jar = new ZipOutputStream(jarBytes)) {
+            jar.putNextEntry(new ZipEntry("caf\u00e9.txt"));
+            jar.write("coffee".getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        final byte[] nested = clearUtf8Flags(jarBytes.toByteArray());
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(nested))) {
+            assertEquals("caf\u00e9.txt", in.getNextEntry().getName());
+        }
+
+        final ByteArrayOutputStream warBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(warBytes)) {
+            out.putNextEntry(storedEntry("WEB-INF/lib/n\u00e9sted.jar", nested));
+            out.write(nested);
+            out.closeEntry();
+        }
+        final File war = new File(tempDir, "unflagged.war");
+        try (FileOutputStream out = new FileOutputStream(war)) {
+            out.write(clearUtf8Flags(warBytes.toByteArray()));
+        }
+
+        final URL jarURL = new URL("jar:" + war.toURI().toURL() + "!/WEB-INF/lib/n\u00e9sted.jar");
+        final NestedJarIndex index = NestedJarIndex.forURL(jarURL);
+        assertArrayEquals(new String[] {"caf\u00e9.txt"}, index.getEntryIndex().getEntryNames(""));
+        assertEquals("coffee", read(index.getInputStream("caf\u00e9.txt")));
+    }
+
+    private void checkNestedJar(final int method) throws IOException {
+        final File war = new File(tempDir, "app" + method + ".war");
+        writeWar(war, method, "content");
+
+        final URL jarURL = new URL("jar:" + war.toURI().toURL() + "!/WEB-INF/lib/nested.jar");
+        final NestedJarIndex index = NestedJarIndex.forURL(jarURL);
+
+        final String[] expectedNames = new String[16];
+        for (int i = 0; i < expectedNames.length; i++) {
+            expectedNames[i] = "text/" + i + ".txt";
+        }
+        assertArrayEquals(expectedNames, index.getEntryIndex().getEntryNames(""));
+
+        // entries can be read in any order
+        for (int i = expectedNames.length - 1; i >= 0; i--) {
+            assertEquals(
+                    "content" + (i > 0 ? i : ""),
+                    read(index.getInputStream("text/" + i + ".txt")).trim());
+        }
+        assertThrows(ZipException.class, () -> index.getInputStream("missing"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jarURL})) {
+            final URLClassSpace space = new URLClassSpace(loader, new URL[] {jarURL});
+            final Enumeration<URL> e = space.findEntries("text", "1*.txt", false);
+            final List<String> found = new ArrayList<>();
+            while (e.hasMoreElements()) {
+                found.add(read(Streams.open(e.nextElement())));
+            }
+            assertEquals(
+                    Arrays.asList(
+                            "content1", "content10", "content11", "content12", "content13", "content14", "content15"),
+                    found);
+        }
+    }
+
+    private static void writeWar(final File war, final int method, final String text) throws IOException {
+        final ByteArrayOutputStream jarBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream jar = new ZipOutputStream(jarBytes)) {
+            for (int i = 0; i < 16; i++) {
+                jar.putNextEntry(new ZipEntry("text/" + i + ".txt"));
+                jar.write((text + (i > 0 ? i : "")).getBytes(StandardCharsets.UTF_8));
+                jar.closeEntry();
+            }
+        }
+
+        final byte[] nested = jarBytes.toByteArray();
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(war))) {
+            out.putNextEntry(new ZipEntry("WEB-INF/web.xml"));
+            out.write("<web-app/>".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+
+            out.putNextEntry(
+                    ZipEntry.STORED == method
+                            ? storedEntry("WEB-INF/lib/nested.jar", nested)
+                            : new ZipEntry("WEB-INF/lib/nested.jar"));
+            out.write(nested);
+            out.closeEntry();
+        }
+    }
+
+    private static ZipEntry storedEntry(final String name, final byte[] content) {
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+        return entry;
+    }
+
+    /**
+     * Clears the UTF-8 flag from local and central headers, like archives written by tools that don't set it.
+     */
+    private static byte[] clearUtf8Flags(final byte[] zip) {
+        for (int i = 0; i + 9 < zip.length; i++) {
+            if (zip[i] == 'P' && zip[i + 1] == 'K' && zip[i + 2] == 3 && zip[i + 3] == 4) {
+                zip[i + 7] &= ~0x08; // local header flags
+            } else if (zip[i] == 'P' && zip[i + 1] == 'K' && zip[i + 2] == 1 && zip[i + 3] == 2) {
+                zip[i + 9] &= ~0x08; // central header flags
+            }
+        }
+        return zip;
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        try (InputStream is = in) {
+            final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            final byte[] tmp = new byte[256];
+            for (int n; (n = is.read(tmp)) >= 0; ) {
+                buf.write(tmp, 0, n);
+            }
+            return new String(buf.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
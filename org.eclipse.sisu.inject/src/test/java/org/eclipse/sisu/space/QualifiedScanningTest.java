@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
 import java.io.IOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -117,6 +119,32 @@ class QualifiedScanningTest {
         assertTrue(listener.clazzes.contains(E.class));
     }
 
+    @Test
+    void testParallelScanning() {
+        final ClassSpace space = new URLClassSpace(
+                getClass().getClassLoader(), new URL[] {getClass().getResource("")});
+
+        final TestListener sequential = new TestListener();
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, true, false).accept(new QualifiedTypeVisitor(sequential));
+
+        final TestListener parallel = new TestListener();
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, true, true).accept(new QualifiedTypeVisitor(parallel));
+
+        assertEquals(37, parallel.clazzes.size());
+        assertEquals(sequential.clazzes, parallel.clazzes);
+        assertEquals(sequential.sources, parallel.sources);
+
+        final List<String> sequentialElements = new ArrayList<>();
+        for (final Element e : Elements.getElements(new SpaceModule(space, BeanScanning.ON, true))) {
+            sequentialElements.add(e.toString().replaceAll("@\\p{XDigit}+", "")); // ignore identity hashes
+        }
+        final List<String> parallelElements = new ArrayList<>();
+        for (final Element e : Elements.getElements(new SpaceModule(space, BeanScanning.PARALLEL, true))) {
+            parallelElements.add(e.toString().replaceAll("@\\p{XDigit}+", ""));
+        }
+        assertEquals(sequentialElements, parallelElements);
+    }
+
     @Test
     void testAdaptedScanning() {
         final TestListener listener = new TestListener();
@@ -221,6 +249,11 @@ class QualifiedScanningTest {
         };
 
         new SpaceScanner(brokenResourceSpace, false).accept(new QualifiedTypeVisitor(null));
+        new SpaceScanner(brokenResourceSpace, SpaceModule.LOCAL_SCAN, false, true)
+                .accept(new QualifiedTypeVisitor(null));
+        assertThrows(IllegalStateException.class, () -> new SpaceScanner(
+                        brokenResourceSpace, SpaceModule.LOCAL_SCAN, true, true)
+                .accept(new QualifiedTypeVisitor(null)));
 
         final ClassSpace brokenLoadSpace = new ClassSpace() {
             @Override
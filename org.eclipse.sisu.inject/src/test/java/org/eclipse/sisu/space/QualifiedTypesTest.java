@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.sisu.space;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,6 +28,7 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.EventListener;
 import java.util.RandomAccess;
 import java.util.concurrent.Callable;
@@ -228,6 +231,99 @@ class QualifiedTypesTest {
         checkLegacyBinding(Callable.class, LegacyCallable.class);
     }
 
+    static final class DeferringLoader extends URLClassLoader {
+        private final String prefix;
+
+        DeferringLoader(final String prefix) {
+            super(
+                    new URL[] {
+                        QualifiedTypesTest.class
+                                .getProtectionDomain()
+                                .getCodeSource()
+                                .getLocation()
+                    },
+                    QualifiedTypesTest.class.getClassLoader());
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(prefix)) {
+                synchronized (getClassLoadingLock(name)) {
+                    final Class<?> clazz = findLoadedClass(name);
+                    return null != clazz ? clazz : findClass(name);
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        boolean isLoaded(final String name) {
+            return null != findLoadedClass(name);
+        }
+    }
+
+    @Test
+    void testDeferredBindings() throws Exception {
+        final String prefix = QualifiedTypesTest.class.getName() + '$';
+        try (DeferringLoader loader = new DeferringLoader(QualifiedTypesTest.class.getName())) {
+            final ClassSpace space =
+                    new URLClassSpace(loader, new URL[] {getClass().getResource("")});
+            final Injector deferredInjector = Guice.createInjector(
+                    new SpaceModule(space, BeanScanning.ON, false).with(SpaceModule.Strategy.DEFERRED));
+
+            // beans that must be loaded to be bound
+            assertTrue(loader.isLoaded(prefix + "DefaultB01"));
+            assertTrue(loader.isLoaded(prefix + "DefaultB03"));
+            assertTrue(loader.isLoaded(prefix + "B06"));
+
+            assertFalse(loader.isLoaded(prefix + "B03"));
+            assertFalse(loader.isLoaded(prefix + "SubclassB01"));
+            assertFalse(loader.isLoaded(prefix + "SubclassB04EventListener"));
+
+            final BeanLocator deferredLocator = deferredInjector.getInstance(BeanLocator.class);
+
+            final BeanEntry<Annotation, EventListener> b03 = deferredLocator
+                    .locate(Key.get(EventListener.class, Names.named(prefix + "B03")))
+                    .iterator()
+                    .next();
+
+            assertTrue(loader.isLoaded(prefix + "B03"));
+            assertFalse(loader.isLoaded(prefix + "SubclassB01"));
+
+            assertEquals(prefix + "B03", b03.getImplementationClass().getName());
+            assertSame(b03.getImplementationClass(), b03.getValue().getClass());
+            assertEquals(Names.named(prefix + "B03"), b03.getKey());
+
+            assertEquals(
+                    prefix + "SubclassB04EventListener",
+                    deferredLocator
+                            .locate(Key.get(EventListener.class, Names.named("RENAME")))
+                            .iterator()
+                            .next()
+                            .getImplementationClass()
+                            .getName());
+
+            assertEquals(
+                    prefix + "B01",
+                    deferredLocator
+                            .locate(Key.get(Thread.class))
+                            .iterator()
+                            .next()
+                            .getImplementationClass()
+                            .getName());
+
+            final Class<?> abstractB02 = loader.loadClass(prefix + "AbstractB02");
+            assertEquals(
+                    prefix + "SubclassB02",
+                    deferredLocator
+                            .locate(Key.get(abstractB02))
+                            .iterator()
+                            .next()
+                            .getImplementationClass()
+                            .getName());
+        }
+    }
+
     @ImplementedBy(AImpl.class)
     interface A {}
 
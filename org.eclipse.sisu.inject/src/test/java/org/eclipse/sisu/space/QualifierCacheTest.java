@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.sisu.BaseTests;
+import org.eclipse.sisu.inject.DeferredClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+@BaseTests
+class QualifierCacheTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testAnnotationIsScannedOnce() throws Exception {
+        final File dir = writeAnnotation("shared", "test/SharedMarker", true);
+        final AtomicInteger opens = new AtomicInteger();
+
+        final List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final ClassSpace space = new CountingClassSpace(newSpace(dir), opens);
+            results.add(new QualifierCache(true).qualify(space, "Ltest/SharedMarker;"));
+            results.add(new QualifierCache(true).qualify(space, "Ltest/SharedMarker;"));
+        }
+
+        assertFalse(results.contains(Boolean.FALSE));
+        assertEquals(1, opens.get());
+    }
+
+    @Test
+    void testDefinitionsAreKeptApart() throws IOException {
+        final ClassSpace qualifierSpace = newSpace(writeAnnotation("one", "test/SameName", true));
+        final ClassSpace plainSpace = newSpace(writeAnnotation("two", "test/SameName", false));
+
+        final QualifierCache cache = new QualifierCache(true);
+        assertTrue(cache.qualify(qualifierSpace, "Ltest/SameName;"));
+        assertFalse(cache.qualify(plainSpace, "Ltest/SameName;"));
+
+        assertFalse(QualifierCache.isKnownNonQualifier(qualifierSpace, "Ltest/SameName;"));
+        assertTrue(QualifierCache.isKnownNonQualifier(plainSpace, "Ltest/SameName;"));
+    }
+
+    @Test
+    void testFailedScansAreNotRemembered() throws IOException {
+        final File dir = writeAnnotation("broken", "test/BrokenMarker", true);
+        final File file = new File(dir, "test/BrokenMarker.class");
+        final byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), new byte[] {(byte) 0xCA, (byte) 0xFE});
+
+        final ClassSpace space = newSpace(dir);
+        assertFalse(new QualifierCache(false).qualify(space, "Ltest/BrokenMarker;"));
+        assertFalse(QualifierCache.isKnownNonQualifier(space, "Ltest/BrokenMarker;"));
+
+        Files.write(file.toPath(), bytes);
+        assertTrue(new QualifierCache(false).qualify(space, "Ltest/BrokenMarker;"));
+        assertTrue(new QualifierCache(false).qualify(newSpace(dir), "Ltest/BrokenMarker;"));
+    }
+
+    @Test
+    void testConcurrentScans() throws Exception {
+        final File dir = writeAnnotation("concurrent", "test/ConcurrentMarker", true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                final ClassSpace space = newSpace(dir);
+                futures.add(executor.submit(
+                        (Callable<Boolean>) () -> new QualifierCache(true).qualify(space, "Ltest/ConcurrentMarker;")));
+            }
+            for (final Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ClassSpace newSpace(final File dir) throws IOException {
+        return new URLClassSpace(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+    }
+
+    private File writeAnnotation(final String dirName, final String name, final boolean qualifier) throws IOException {
+        final ClassWriter cw = new ClassWriter(0);
+        cw.visit(
+                Opcodes.V1_8,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT | Opcodes.ACC_ANNOTATION,
+                name,
+                null,
+                "java/lang/Object",
+                new String[] {"java/lang/annotation/Annotation"});
+        if (qualifier) {
+            cw.visitAnnotation("Ljavax/inject/Qualifier;", true).visitEnd();
+        }
+        cw.visitEnd();
+
+        final File dir = new File(tempDir, dirName);
+        final File file = new File(dir, name + ".class");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), cw.toByteArray());
+        return dir;
+    }
+
+    /**
+     * {@link ClassSpace} that counts how often its class files are opened.
+     */
+    static final class CountingClassSpace implements ClassSpace {
+        private final ClassSpace delegate;
+
+        private final AtomicInteger opens;
+
+        CountingClassSpace(final ClassSpace delegate, final AtomicInteger opens) {
+            this.delegate = delegate;
+            this.opens = opens;
+        }
+
+        @Override
+        public Class<?> loadClass(final String name) {
+            return delegate.loadClass(name);
+        }
+
+        @Override
+        public DeferredClass<?> deferLoadClass(final String name) {
+            return delegate.deferLoadClass(name);
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            final URL url = delegate.getResource(name);
+            try {
+                return null == url
+                        ? null
+                        : new URL(null, url.toString(), new URLStreamHandler() {
+                            @Override
+                            protected URLConnection openConnection(final URL u) throws IOException {
+                                opens.incrementAndGet();
+                                return url.openConnection();
+                            }
+                        });
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) {
+            return delegate.getResources(name);
+        }
+
+        @Override
+        public Enumeration<URL> findEntries(final String path, final String glob, final boolean recurse) {
+            return delegate.findEntries(path, glob, recurse);
+        }
+
+        @Override
+        public boolean equals(final Object rhs) {
+            return rhs instanceof CountingClassSpace && delegate.equals(((CountingClassSpace) rhs).delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+    }
+}
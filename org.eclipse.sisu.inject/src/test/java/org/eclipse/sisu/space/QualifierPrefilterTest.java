@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.Injector;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+@BaseTests
+class QualifierPrefilterTest {
+    @Test
+    void testGeneratedClasses() {
+        assertFalse(QualifierPrefilter.mayBeQualified(null, generateClass(null, null)));
+        assertTrue(QualifierPrefilter.mayBeQualified(null, generateClass("Ljavax/inject/Named;", null)));
+        assertTrue(QualifierPrefilter.mayBeQualified(null, generateClass("Lunknown/Marker;", null)));
+
+        // only known non-qualifiers are mentioned
+        assertFalse(QualifierPrefilter.mayBeQualified(null, generateClass(null, "Ljavax/inject/Inject;")));
+        assertFalse(QualifierPrefilter.mayBeQualified(null, generateClass("Ljavax/inject/Singleton;", null)));
+
+        // unknown descriptors could be anywhere, so must be parsed
+        assertTrue(QualifierPrefilter.mayBeQualified(null, generateClass(null, "Lunknown/Marker;")));
+    }
+
+    @Test
+    void testMalformedClasses() {
+        assertTrue(QualifierPrefilter.mayBeQualified(null, new byte[0]));
+        assertTrue(QualifierPrefilter.mayBeQualified(null, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}));
+
+        final byte[] named = generateClass("Ljavax/inject/Named;", null);
+        final byte[] truncated = new byte[named.length / 2];
+        System.arraycopy(named, 0, truncated, 0, truncated.length);
+        assertTrue(QualifierPrefilter.mayBeQualified(null, truncated));
+    }
+
+    @Test
+    void testNoFalseNegatives() throws IOException {
+        int rejected = 0;
+        for (final URL jar : new URL[] {
+            ClassReader.class.getProtectionDomain().getCodeSource().getLocation(),
+            Injector.class.getProtectionDomain().getCodeSource().getLocation()
+        }) {
+            try (ZipInputStream in = new ZipInputStream(Streams.open(jar))) {
+                for (ZipEntry e = in.getNextEntry(); e != null; e = in.getNextEntry()) {
+                    if (e.getName().endsWith(".class")) {
+                        final byte[] bytes = readFully(in);
+                        if (!QualifierPrefilter.mayBeQualified(null, bytes)) {
+                            for (final String desc : classAnnotations(bytes)) {
+                                assertTrue(QualifierCache.isKnownNonQualifier(null, desc), e.getName() + " " + desc);
+                            }
+                            rejected++;
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(rejected > 100);
+    }
+
+    @Test
+    void testScanningIsUnchanged() {
+        final ClassSpace space = new URLClassSpace(
+                getClass().getClassLoader(), new URL[] {getClass().getResource("")});
+
+        final List<Class<?>> filtered = new ArrayList<>();
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, true, false, true)
+                .accept(new QualifiedTypeVisitor((clazz, source) -> filtered.add(clazz)));
+
+        final List<Class<?>> unfiltered = new ArrayList<>();
+        new SpaceScanner(space, SpaceModule.LOCAL_SCAN, true, false, false)
+                .accept(new QualifiedTypeVisitor((clazz, source) -> unfiltered.add(clazz)));
+
+        assertFalse(unfiltered.isEmpty());
+        assertEquals(unfiltered, filtered);
+    }
+
+    private static List<String> classAnnotations(final byte[] bytes) {
+        final List<String> descs = new ArrayList<>();
+        new ClassReader(bytes)
+                .accept(
+                        new org.objectweb.asm.ClassVisitor(Opcodes.ASM9) {
+                            @Override
+                            public org.objectweb.asm.AnnotationVisitor visitAnnotation(
+                                    final String desc, final boolean visible) {
+                                descs.add(desc);
+                                return null;
+                            }
+                        },
+                        ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return descs;
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        final byte[] tmp = new byte[4096];
+        for (int n; (n = in.read(tmp)) >= 0; ) {
+            buf.write(tmp, 0, n);
+        }
+        return buf.toByteArray();
+    }
+
+    private static byte[] generateClass(final String classAnnotation, final String methodAnnotation) {
+        final ClassWriter cw = new ClassWriter(0);
+        cw.visit(
+                Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, "test/Generated", null, "java/lang/Object", null);
+        if (null != classAnnotation) {
+            cw.visitAnnotation(classAnnotation, true).visitEnd();
+        }
+        cw.visitField(Opcodes.ACC_PRIVATE, "text", "Ljava/lang/String;", null, null)
+                .visitEnd();
+        final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        if (null != methodAnnotation) {
+            mv.visitAnnotation(methodAnnotation, true).visitEnd();
+        }
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(1, 1);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+}
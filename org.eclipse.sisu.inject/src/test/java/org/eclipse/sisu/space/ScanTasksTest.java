@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class ScanTasksTest {
+    @Test
+    void testTasksAvoidCommonPool() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final FutureTask<Thread> task = ScanTasks.submit(() -> {
+            started.countDown();
+            return Thread.currentThread();
+        });
+        // wait for a pool thread to pick up the task, otherwise join would run it here
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        final Thread thread = ScanTasks.join(task);
+        assertNotSame(Thread.currentThread(), thread);
+        assertEquals("sisu-scan", thread.getName());
+        assertTrue(thread.isDaemon());
+        assertFalse(thread instanceof ForkJoinWorkerThread);
+        assertTrue(ScanTasks.parallelism() >= 2);
+    }
+
+    @Test
+    void testNestedTasksDoNotDeadlock() {
+        // more outer tasks than threads, each waiting on inner tasks queued behind them
+        final List<FutureTask<Integer>> outer = new ArrayList<>();
+        for (int i = 0; i < ScanTasks.parallelism() * 4; i++) {
+            final int n = i;
+            outer.add(ScanTasks.submit(() -> ScanTasks.join(ScanTasks.submit(() -> n * 2))));
+        }
+        for (int i = 0; i < outer.size(); i++) {
+            assertEquals(i * 2, ScanTasks.join(outer.get(i)).intValue());
+        }
+    }
+
+    @Test
+    void testFailuresAreRethrown() {
+        final IllegalArgumentException e = new IllegalArgumentException();
+        assertSame(
+                e,
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ScanTasks.join(ScanTasks.submit(() -> {
+                            throw e;
+                        }))));
+    }
+}
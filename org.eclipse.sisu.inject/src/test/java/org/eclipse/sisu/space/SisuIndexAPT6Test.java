@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.google.inject.Binding;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.LinkedKeyBinding;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@BaseTests
+class SisuIndexAPT6Test {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testGeneratedModuleMatchesScanning() throws IOException {
+        final File output = compile(
+                "p/Foo.java",
+                "package p; @javax.inject.Named(\"foo\") public class Foo implements Runnable { public void run() {} }",
+                "p/DefaultBar.java",
+                "package p; @javax.inject.Named @org.eclipse.sisu.EagerSingleton public class DefaultBar {}",
+                "p/Hidden.java",
+                "package p; @javax.inject.Named @org.eclipse.sisu.Typed class Hidden implements Runnable {"
+                        + " public void run() {} }",
+                "p/Outer.java",
+                "package p; public class Outer { @javax.inject.Named(\"default\") public static class Inner"
+                        + " extends Foo {} @javax.inject.Named static abstract class Skipped {} }",
+                "p/FooProvider.java",
+                "package p; @javax.inject.Named public class FooProvider implements javax.inject.Provider<Foo> {"
+                        + " public Foo get() { return new Foo(); } }");
+
+        final File moduleTable = new File(output, "META-INF/sisu/javax.inject.Named.module");
+        assertTrue(moduleTable.isFile());
+        assertEquals(
+                "#sisu-tables: .bin .module",
+                Files.readAllLines(new File(output, "META-INF/sisu/javax.inject.Named").toPath())
+                        .get(0));
+        assertTrue(new File(output, "p/Bindings.class").isFile());
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] {output.toURI().toURL()}, getClass().getClassLoader())) {
+            final ClassSpace space =
+                    new URLClassSpace(loader, new URL[] {output.toURI().toURL()});
+
+            final Map<Class<?>, Object> modules = new LinkedHashMap<>();
+            final IndexedClassFinder finder = (IndexedClassFinder) SpaceModule.LOCAL_INDEX;
+            assertFalse(finder.findClasses(space, modules).hasMoreElements());
+            assertEquals(Collections.singletonList("p.Bindings"), names(modules.keySet()));
+
+            final List<String> generated = describe(space);
+            assertFalse(generated.isEmpty());
+
+            Files.delete(moduleTable.toPath()); // fall back to scanning
+
+            assertEquals(describe(space), generated);
+        }
+    }
+
+    private File compile(final String... pathsAndSources) throws IOException {
+        final File sources = new File(tempDir, "src");
+        final List<String> args = new ArrayList<>(Arrays.asList(
+                "-processor",
+                SisuIndexAPT6.class.getName(),
+                "-Asisu.module=p.Bindings",
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-d",
+                new File(tempDir, "classes").getPath()));
+        for (int i = 0; i < pathsAndSources.length; i += 2) {
+            final File source = new File(sources, pathsAndSources[i]);
+            source.getParentFile().mkdirs();
+            Files.write(source.toPath(), pathsAndSources[i + 1].getBytes(StandardCharsets.UTF_8));
+            args.add(source.getPath());
+        }
+        new File(tempDir, "classes").mkdirs();
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(null != compiler, "No system Java compiler");
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[0])));
+        return new File(tempDir, "classes");
+    }
+
+    private static List<String> describe(final ClassSpace space) {
+        final List<String> bindings = new ArrayList<>();
+        for (final Element element : Elements.getElements(new SpaceModule(space, BeanScanning.INDEX, true))) {
+            if (element instanceof Binding<?>) {
+                final Binding<?> binding = (Binding<?>) element;
+                final String target = binding instanceof LinkedKeyBinding<?>
+                        ? ((LinkedKeyBinding<?>) binding).getLinkedKey().toString()
+                        : binding.getClass().getSimpleName();
+                final String scoping = binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<String>() {
+                    @Override
+                    public String visitEagerSingleton() {
+                        return " (eager)";
+                    }
+
+                    @Override
+                    protected String visitOther() {
+                        return "";
+                    }
+                });
+                bindings.add(binding.getKey() + " -> " + target + scoping);
+            }
+        }
+        Collections.sort(bindings);
+        return bindings;
+    }
+
+    private static List<String> names(final Iterable<Class<?>> types) {
+        final List<String> names = new ArrayList<>();
+        for (final Class<?> type : types) {
+            names.add(type.getName());
+        }
+        return names;
+    }
+}
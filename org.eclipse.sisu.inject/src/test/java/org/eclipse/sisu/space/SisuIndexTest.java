@@ -12,11 +12,23 @@
  */
 package org.eclipse.sisu.space;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.eclipse.sisu.BaseTests;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -87,4 +99,106 @@ class SisuIndexTest {
         final File indexFile = new File(tempDir, "META-INF/sisu/javax.inject.Named");
         assertFalse(indexFile.exists());
     }
+
+    @Test
+    void testBinaryIndexMatchesTextIndex() throws IOException {
+        final File classes = new File(tempDir, "classes.jar");
+        final File packageDir = new File(getClass().getResource("").getPath());
+        writeJar(classes, packageDir);
+
+        final ClassLoader parent = getClass().getClassLoader();
+        final File output = new File(tempDir, "output");
+        try (URLClassLoader loader =
+                new URLClassLoader(new URL[] {classes.toURI().toURL()}, parent)) {
+            new SisuIndex(output)
+                    .index(new URLClassSpace(loader, new URL[] {classes.toURI().toURL()}));
+        }
+        final File binaryTable = new File(output, "META-INF/sisu/javax.inject.Named.bin");
+        assertTrue(binaryTable.isFile());
+
+        final File textOnly = new File(tempDir, "text.jar");
+        writeJar(textOnly, packageDir, new File(output, "META-INF/sisu/javax.inject.Named"));
+        final File withBinary = new File(tempDir, "binary.jar");
+        writeJar(withBinary, packageDir, new File(output, "META-INF/sisu/javax.inject.Named"), binaryTable);
+
+        // hide the test classes from the parent, so the copies in each JAR are the ones found
+        final ClassLoader hidingParent = new ClassLoader(parent) {
+            @Override
+            public URL getResource(final String name) {
+                return name.startsWith("org/eclipse/sisu/space/") ? null : super.getResource(name);
+            }
+        };
+
+        final List<String> sources = new ArrayList<>();
+        final List<String> expected = scanIndex(textOnly, hidingParent, false, new ArrayList<>());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, scanIndex(withBinary, hidingParent, true, sources));
+
+        // recorded classes are located next to their index
+        for (final String source : sources) {
+            assertEquals("jar:" + withBinary.toURI().toURL() + "!/", "jar:" + source);
+        }
+
+        // records are ignored when the classes are shadowed by other definitions
+        assertEquals(expected, scanIndex(withBinary, parent, false, new ArrayList<>()));
+    }
+
+    private static List<String> scanIndex(
+            final File jar, final ClassLoader parent, final boolean recorded, final List<String> sources)
+            throws IOException {
+        final List<String> results = new ArrayList<>();
+        final AtomicInteger lookups = new AtomicInteger();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, parent) {
+            @Override
+            public URL getResource(final String name) {
+                if (name.endsWith(".class")) {
+                    lookups.incrementAndGet();
+                }
+                return super.getResource(name);
+            }
+        }) {
+            final ClassSpace space =
+                    new URLClassSpace(loader, new URL[] {jar.toURI().toURL()});
+
+            final Enumeration<URL> classes = SpaceModule.LOCAL_INDEX.findClasses(space);
+            final List<RecordedClass> records = new ArrayList<>();
+            while (classes.hasMoreElements()) {
+                classes.nextElement();
+                final RecordedClass record = ((IndexedClassFinder.IndexedClasses) classes).currentRecord();
+                if (null != record) {
+                    records.add(record);
+                }
+            }
+
+            // recorded classes are only looked up once their contents are needed
+            if (!records.isEmpty()) {
+                assertEquals(0, lookups.get());
+            }
+            for (final RecordedClass record : records) {
+                assertEquals(
+                        recorded, record.isLocatedAt(((IndexedClassFinder.IndexedClasses) classes).resolve(record)));
+            }
+
+            new SpaceScanner(space, SpaceModule.LOCAL_INDEX, true).accept(new QualifiedTypeVisitor((clazz, source) -> {
+                results.add(clazz.getName());
+                sources.add(String.valueOf(source));
+            }));
+        }
+        return results;
+    }
+
+    private static void writeJar(final File jar, final File packageDir, final File... indexFiles) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            for (final File clazz : packageDir.listFiles((dir, name) -> name.endsWith(".class"))) {
+                out.putNextEntry(new ZipEntry("org/eclipse/sisu/space/" + clazz.getName()));
+                out.write(Files.readAllBytes(clazz.toPath()));
+                out.closeEntry();
+            }
+            for (final File index : indexFiles) {
+                out.putNextEntry(new ZipEntry("META-INF/sisu/" + index.getName()));
+                out.write(Files.readAllBytes(index.toPath()));
+                out.closeEntry();
+            }
+        }
+    }
 }
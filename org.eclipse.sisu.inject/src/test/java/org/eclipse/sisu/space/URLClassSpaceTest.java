@@ -15,18 +15,25 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import org.eclipse.sisu.BaseTests;
 import org.eclipse.sisu.inject.DeferredClass;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @BaseTests
 class URLClassSpaceTest {
@@ -42,6 +49,9 @@ class URLClassSpaceTest {
 
     private static final URL NESTED_WAR = URLClassSpaceTest.class.getResource("nested.war");
 
+    @TempDir
+    File tempDir;
+
     private String handlerPkgs;
 
     @BeforeEach
@@ -159,6 +169,42 @@ class URLClassSpaceTest {
                 space.getURLs()));
     }
 
+    @Test
+    void testManifestChanges() throws IOException {
+        final File jar = new File(tempDir, "changing.jar");
+
+        writeJar(jar, "first.jar");
+        assertTrue(Arrays.equals(
+                new URL[] {toURL(jar), toURL(new File(tempDir, "first.jar"))},
+                new URLClassSpace(null, new URL[] {toURL(jar)}).getURLs()));
+
+        writeJar(jar, "second.jar third.jar");
+        jar.setLastModified(jar.lastModified() + 2000);
+        assertTrue(Arrays.equals(
+                new URL[] {toURL(jar), toURL(new File(tempDir, "second.jar")), toURL(new File(tempDir, "third.jar"))},
+                new URLClassSpace(null, new URL[] {toURL(jar)}).getURLs()));
+    }
+
+    @Test
+    void testLongClassPathExpansion() throws IOException {
+        final List<URL> path = new ArrayList<>();
+        final List<URL> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            final File jar = new File(tempDir, "jar" + i + ".jar");
+            writeJar(jar, i % 2 == 0 ? "dep" + i + ".jar" : null);
+            path.add(toURL(jar));
+            expected.add(toURL(jar));
+        }
+        for (int i = 0; i < 40; i += 2) {
+            expected.add(toURL(new File(tempDir, "dep" + i + ".jar")));
+        }
+
+        final URL[] urls = path.toArray(new URL[path.size()]);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected, Arrays.asList(new URLClassSpace(null, urls).getURLs()));
+        }
+    }
+
     @Test
     void testNullSearchPath() {
         final ClassSpace space = new URLClassSpace(getClass().getClassLoader(), null);
@@ -278,4 +324,17 @@ class URLClassSpaceTest {
         e = space.findEntries(null, "missing", true);
         assertFalse(e.hasMoreElements());
     }
+
+    private static void writeJar(final File jar, final String classPath) throws IOException {
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (null != classPath) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        }
+        new JarOutputStream(new FileOutputStream(jar), manifest).close();
+    }
+
+    private static URL toURL(final File file) throws MalformedURLException {
+        return file.toURI().toURL();
+    }
 }
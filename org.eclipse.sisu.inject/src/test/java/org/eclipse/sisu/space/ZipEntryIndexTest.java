@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@BaseTests
+class ZipEntryIndexTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testPrefixQueries() throws IOException {
+        final ZipEntryIndex index = ZipEntryIndex.forURL(ZipEntryIndexTest.class.getResource("simple.jar"));
+
+        assertArrayEquals(new String[] {"a/", "a/1", "a/b/", "a/b/2", "a/b/c/", "a/b/c/3"}, index.getEntryNames("a/"));
+        assertArrayEquals(new String[] {"a/b/c/", "a/b/c/3"}, index.getEntryNames("a/b/c"));
+        assertArrayEquals(new String[] {"x/y/", "x/y/6"}, index.getEntryNames("x/y/"));
+        assertArrayEquals(new String[] {"7"}, index.getEntryNames("7"));
+        assertArrayEquals(new String[0], index.getEntryNames("z"));
+        assertArrayEquals(new String[0], index.getEntryNames("0/"));
+    }
+
+    @Test
+    void testArchiveOrderIsKept() {
+        final ZipEntryIndex index = new ZipEntryIndex(new String[] {"b/2", "a/9", "b/1", "c", "b/3", "a/0"});
+
+        assertArrayEquals(new String[] {"b/2", "a/9", "b/1", "c", "b/3", "a/0"}, index.getEntryNames(""));
+        assertArrayEquals(new String[] {"b/2", "b/1", "b/3"}, index.getEntryNames("b/"));
+        assertArrayEquals(new String[] {"a/9", "a/0"}, index.getEntryNames("a"));
+    }
+
+    @Test
+    void testIndexIsShared() throws IOException {
+        final File zip = new File(tempDir, "shared.zip");
+        writeZip(zip, "one");
+
+        final URL url = zip.toURI().toURL();
+        final ZipEntryIndex index = ZipEntryIndex.forURL(url);
+        assertSame(index, ZipEntryIndex.forURL(url));
+        assertArrayEquals(new String[] {"one"}, index.getEntryNames(""));
+
+        writeZip(zip, "one", "two");
+        zip.setLastModified(zip.lastModified() + 2000);
+
+        final ZipEntryIndex newIndex = ZipEntryIndex.forURL(url);
+        assertNotSame(index, newIndex);
+        assertArrayEquals(new String[] {"one", "two"}, newIndex.getEntryNames(""));
+    }
+
+    private static void writeZip(final File zip, final String... names) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(zip))) {
+            for (final String name : names) {
+                out.putNextEntry(new ZipEntry(name));
+                out.closeEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import org.eclipse.sisu.BaseTests;
+import org.eclipse.sisu.inject.DefaultBeanLocator;
+import org.eclipse.sisu.inject.DefaultRankingFunction;
+import org.eclipse.sisu.inject.InjectorBindings;
+import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class BeanProvidersTest {
+    static class Bean {}
+
+    static class OtherBean extends Bean {}
+
+    @Test
+    void testFirstOfTracksChanges() {
+        final BeanProviders[] beans = new BeanProviders[1];
+        final Injector injector = Guice.createInjector(new WireModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                beans[0] = new BeanProviders(binder());
+            }
+        }));
+
+        final MutableBeanLocator locator = injector.getInstance(MutableBeanLocator.class);
+        final Provider<Bean> first = beans[0].firstOf(Key.get(Bean.class, Names.named("bean")));
+
+        assertNull(first.get());
+
+        final Bean low = new Bean();
+        final InjectorBindings lowBindings = new InjectorBindings(newInjector(low), new DefaultRankingFunction(1));
+        locator.add(lowBindings);
+
+        assertSame(low, first.get());
+        assertSame(low, first.get());
+
+        final Bean high = new Bean();
+        final InjectorBindings highBindings = new InjectorBindings(newInjector(high), new DefaultRankingFunction(2));
+        locator.add(highBindings);
+
+        assertSame(high, first.get());
+
+        locator.remove(highBindings);
+
+        assertSame(low, first.get());
+
+        locator.remove(lowBindings);
+
+        assertNull(first.get());
+    }
+
+    @Test
+    void testFirstOfWhileFrozen() {
+        final BeanProviders[] beans = new BeanProviders[1];
+        final Injector injector = Guice.createInjector(new WireModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                beans[0] = new BeanProviders(binder());
+            }
+        }));
+
+        final DefaultBeanLocator locator = (DefaultBeanLocator) injector.getInstance(MutableBeanLocator.class);
+        final Provider<Bean> first = beans[0].firstOf(Key.get(Bean.class, Names.named("bean")));
+
+        final Bean low = new Bean();
+        final InjectorBindings lowBindings = new InjectorBindings(newInjector(low), new DefaultRankingFunction(1));
+        locator.add(lowBindings);
+
+        final Bean high = new Bean();
+        final InjectorBindings highBindings = new InjectorBindings(newInjector(high), new DefaultRankingFunction(2));
+        locator.add(highBindings);
+
+        locator.freeze();
+
+        assertSame(high, first.get());
+        assertSame(high, first.get());
+
+        // removing the winning publisher must be seen by the remembered lookup
+        locator.remove(highBindings);
+
+        assertSame(low, first.get());
+
+        locator.add(highBindings);
+
+        assertSame(high, first.get());
+
+        locator.thaw();
+        locator.remove(highBindings);
+
+        assertSame(low, first.get());
+    }
+
+    @Test
+    void testFirstOfUnscoped() {
+        final BeanProviders[] beans = new BeanProviders[1];
+        final Injector injector = Guice.createInjector(new WireModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class).annotatedWith(Names.named("bean")).to(OtherBean.class);
+                beans[0] = new BeanProviders(binder());
+            }
+        }));
+
+        final Provider<Bean> first = beans[0].firstOf(Key.get(Bean.class, Names.named("bean")));
+
+        // the leading entry is remembered, but unscoped beans are still created on each call
+        assertNotSame(first.get(), first.get());
+
+        injector.getInstance(MutableBeanLocator.class).clear();
+
+        assertNull(first.get());
+    }
+
+    static Injector newInjector(final Bean bean) {
+        return Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class).annotatedWith(Names.named("bean")).toInstance(bean);
+            }
+        });
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.eclipse.sisu.BaseTests;
+import org.eclipse.sisu.inject.Versioned;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class MergedPropertiesTest {
+    static final class VersionedMap extends HashMap<String, String> implements Versioned {
+        private static final long serialVersionUID = 1L;
+
+        int version;
+
+        int gets;
+
+        boolean unknown;
+
+        @Override
+        public String get(final Object key) {
+            gets++;
+            return super.get(key);
+        }
+
+        @Override
+        public String put(final String key, final String value) {
+            version++;
+            return super.put(key, value);
+        }
+
+        @Override
+        public String remove(final Object key) {
+            version++;
+            return super.remove(key);
+        }
+
+        @Override
+        public Object version() {
+            return unknown ? null : version;
+        }
+    }
+
+    @Test
+    void testPrecedence() {
+        final Map<String, String> first = new HashMap<>();
+        first.put("a", "first");
+        first.put("b", null);
+
+        final Properties second = new Properties();
+        second.setProperty("a", "second");
+        second.setProperty("b", "second");
+        second.setProperty("c", "second");
+
+        final Map<String, String> third = new HashMap<>();
+        third.put("d", null);
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.asList(first, second, third));
+
+        assertEquals("first", merged.get("a"));
+        assertEquals("second", merged.get("b"));
+        assertEquals("second", merged.get("c"));
+        assertNull(merged.get("d"));
+        assertNull(merged.get("e"));
+
+        assertTrue(merged.containsKey("a"));
+        assertTrue(merged.containsKey("d"));
+        assertFalse(merged.containsKey("e"));
+
+        assertEquals(6, merged.entrySet().size());
+    }
+
+    @Test
+    void testSourceChanges() {
+        final Map<String, String> first = new HashMap<>();
+        final Map<String, String> second = new HashMap<>();
+        second.put("a", "second");
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.asList(first, second));
+
+        assertEquals("second", merged.get("a"));
+        assertFalse(merged.containsKey("b"));
+
+        second.put("a", "updated");
+        assertEquals("updated", merged.get("a"));
+
+        first.put("a", "first");
+        assertEquals("first", merged.get("a"));
+
+        second.put("b", "second");
+        assertEquals("second", merged.get("b"));
+
+        first.remove("a");
+        assertEquals("updated", merged.get("a"));
+
+        second.remove("a");
+        assertNull(merged.get("a"));
+        assertFalse(merged.containsKey("a"));
+    }
+
+    @Test
+    void testSourceChangesWithSameSize() {
+        final Map<String, String> first = new HashMap<>();
+        first.put("x", "1");
+        final Map<String, String> second = new HashMap<>();
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.asList(first, second));
+
+        assertEquals("1", merged.get("x"));
+        assertFalse(merged.containsKey("y"));
+
+        first.remove("x");
+        second.put("y", "2");
+
+        assertEquals("2", merged.get("y"));
+        assertTrue(merged.containsKey("y"));
+        assertFalse(merged.containsKey("x"));
+
+        // null value later replaced by a real one
+        first.put("z", null);
+        assertNull(merged.get("z"));
+        assertTrue(merged.containsKey("z"));
+
+        first.put("z", "3");
+        assertEquals("3", merged.get("z"));
+    }
+
+    @Test
+    void testManySources() {
+        final Map<String, String> mutable = new HashMap<>();
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.<Map<?, ?>>asList(
+                Collections.singletonMap("a", "first"),
+                Collections.singletonMap("b", null),
+                Collections.emptyMap(),
+                Collections.singletonMap("a", "second"),
+                Collections.singletonMap("b", "second"),
+                mutable,
+                Collections.singletonMap("c", "last")));
+
+        assertEquals("first", merged.get("a"));
+        assertEquals("second", merged.get("b"));
+        assertEquals("last", merged.get("c"));
+        assertTrue(merged.containsKey("b"));
+        assertFalse(merged.containsKey("d"));
+
+        // mutable sources are consulted directly, so changes show up immediately
+        mutable.put("c", "mutable");
+        mutable.put("d", "mutable");
+        assertEquals("mutable", merged.get("c"));
+        assertEquals("mutable", merged.get("d"));
+        assertEquals("first", merged.get("a"));
+
+        assertEquals(7, merged.entrySet().size());
+    }
+
+    @Test
+    void testFewerSources() {
+        assertNull(new MergedProperties(Collections.<Map<?, ?>>emptyList()).get("a"));
+        assertFalse(new MergedProperties(Collections.<Map<?, ?>>emptyList()).containsKey("a"));
+
+        final Map<?, ?> merged =
+                new MergedProperties(Collections.<Map<?, ?>>singletonList(Collections.singletonMap("a", "b")));
+        assertEquals("b", merged.get("a"));
+        assertTrue(merged.containsKey("a"));
+    }
+
+    @Test
+    void testVersionedSourcesAreIndexed() {
+        final VersionedMap first = new VersionedMap();
+        first.put("a", "first");
+        first.put("b", null);
+        final VersionedMap second = new VersionedMap();
+        second.put("a", "second");
+        second.put("b", "second");
+        second.put("c", "second");
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.asList(first, second));
+
+        assertEquals("first", merged.get("a"));
+        assertEquals("second", merged.get("b"));
+        assertEquals("second", merged.get("c"));
+        assertNull(merged.get("d"));
+        assertTrue(merged.containsKey("b"));
+        assertFalse(merged.containsKey("d"));
+
+        // changes bump the version, which rebuilds the index
+        second.put("d", "second");
+        assertEquals("second", merged.get("d"));
+        first.remove("a");
+        assertEquals("second", merged.get("a"));
+        first.put("c", "first");
+        assertEquals("first", merged.get("c"));
+
+        // every lookup was answered by the index
+        assertEquals(0, first.gets + second.gets);
+    }
+
+    @Test
+    void testMixedSources() {
+        final Map<String, String> before = new HashMap<>();
+        final VersionedMap indexed = new VersionedMap();
+        indexed.put("a", "indexed");
+        indexed.put("b", null);
+        final Map<String, String> after = new HashMap<>();
+        after.put("a", "after");
+        after.put("b", "after");
+
+        final Map<?, ?> merged = new MergedProperties(Arrays.asList(before, indexed, after));
+
+        assertEquals("indexed", merged.get("a"));
+        assertEquals("after", merged.get("b"));
+        assertFalse(merged.containsKey("c"));
+
+        // unversioned sources are consulted directly, but only ahead of the indexed value
+        before.put("a", "before");
+        after.put("c", "after");
+        assertEquals("before", merged.get("a"));
+        assertEquals("after", merged.get("c"));
+        assertTrue(merged.containsKey("c"));
+
+        before.remove("a");
+        after.put("a", "ignored");
+        assertEquals("indexed", merged.get("a"));
+
+        assertNull(((Versioned) merged).version());
+    }
+
+    @Test
+    void testUnknownVersion() {
+        final VersionedMap source = new VersionedMap();
+        source.put("a", "old");
+
+        final Map<?, ?> merged = new MergedProperties(Collections.<Map<?, ?>>singletonList(source));
+        assertEquals("old", merged.get("a"));
+
+        // changes that don't bump the version are seen once the version is unknown
+        source.unknown = true;
+        source.replace("a", "new");
+        assertEquals("new", merged.get("a"));
+        assertNull(((Versioned) merged).version());
+    }
+
+    @Test
+    void testMergedVersion() {
+        final VersionedMap first = new VersionedMap();
+        final VersionedMap second = new VersionedMap();
+
+        final Versioned merged = new MergedProperties(Arrays.asList(first, second));
+        final Object version = merged.version();
+        assertNotNull(version);
+        assertEquals(version, merged.version());
+
+        second.put("a", "second");
+        assertNotEquals(version, merged.version());
+        assertEquals(merged.version(), merged.version());
+
+        final Versioned empty = new MergedProperties(Collections.<Map<?, ?>>emptyList());
+        assertNotNull(empty.version());
+        assertEquals(empty.version(), empty.version());
+    }
+}
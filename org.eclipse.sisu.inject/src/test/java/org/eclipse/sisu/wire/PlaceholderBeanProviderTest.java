@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.sisu.BaseTests;
+import org.eclipse.sisu.inject.Versioned;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class PlaceholderBeanProviderTest {
+    static final Key<String> PLACEHOLDER_KEY = Key.get(String.class, Names.named("${greeting}, ${name}!"));
+
+    static class CountingProperties extends HashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        int lookups;
+
+        @Override
+        public String get(final Object key) {
+            lookups++;
+            return super.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            lookups++;
+            return super.containsKey(key);
+        }
+    }
+
+    static final class VersionedProperties extends CountingProperties implements Versioned {
+        private static final long serialVersionUID = 1L;
+
+        int version;
+
+        @Override
+        public String put(final String key, final String value) {
+            version++;
+            return super.put(key, value);
+        }
+
+        @Override
+        public Object version() {
+            return version;
+        }
+    }
+
+    @Test
+    void testVersionedPropertiesAreMemoized() {
+        final VersionedProperties properties = new VersionedProperties();
+        properties.put("greeting", "Hello");
+        properties.put("name", "world");
+
+        final Injector injector = newInjector(properties);
+        assertEquals("Hello, world!", injector.getInstance(PLACEHOLDER_KEY));
+        final int lookups = properties.lookups;
+        assertEquals("Hello, world!", injector.getInstance(PLACEHOLDER_KEY));
+        assertEquals(lookups, properties.lookups);
+
+        properties.put("name", "there");
+        assertEquals("Hello, there!", injector.getInstance(PLACEHOLDER_KEY));
+    }
+
+    @Test
+    void testOtherPropertiesAreAlwaysInterpolated() {
+        final CountingProperties properties = new CountingProperties();
+        properties.put("greeting", "Hello");
+        properties.put("name", "world");
+
+        final Injector injector = newInjector(properties);
+        assertEquals("Hello, world!", injector.getInstance(PLACEHOLDER_KEY));
+        final int lookups = properties.lookups;
+        properties.put("name", "there");
+        assertEquals("Hello, there!", injector.getInstance(PLACEHOLDER_KEY));
+        assertEquals(2 * lookups, properties.lookups);
+    }
+
+    private static Injector newInjector(final Map<?, ?> properties) {
+        return Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(ParameterKeys.PROPERTIES).toInstance(properties);
+                bind(PLACEHOLDER_KEY)
+                        .toProvider(new PlaceholderBeanProvider<>(new BeanProviders(binder()), PLACEHOLDER_KEY));
+            }
+        });
+    }
+}
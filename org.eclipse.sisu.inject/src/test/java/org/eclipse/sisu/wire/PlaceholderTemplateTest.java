@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.inject.ProvisionException;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class PlaceholderTemplateTest {
+    private static final String[] TEMPLATES = {
+        "",
+        "plain",
+        "name",
+        "${name}",
+        "${name}!",
+        "Hello ${name}, ${greeting:-hi}",
+        "${missing}",
+        "${missing:-}",
+        "${missing:-default}",
+        "${missing:-null}",
+        "${number}",
+        "${nested}",
+        "${nested:-x} and ${dollar}{name}",
+        "${dollar}{name}",
+        "${a${name}}",
+        "${unterminated",
+        "text ${unterminated",
+        "$${name}}",
+        "${:-empty}",
+        "${name:-a:-b}"
+    };
+
+    @Test
+    @SuppressWarnings("boxing")
+    void testSameResultsAsIncrementalExpansion() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "world");
+        properties.put("number", 42);
+        properties.put("nested", "${name}");
+        properties.put("dollar", "$");
+        properties.put("a${name", "odd");
+
+        for (final String text : TEMPLATES) {
+            final PlaceholderTemplate template = PlaceholderTemplate.compile(text);
+            for (final Class<?> clazz : new Class<?>[] {String.class, Integer.class, Object.class}) {
+                assertEquals(
+                        PlaceholderTemplate.expand(text, properties, clazz),
+                        template.interpolate(properties, clazz),
+                        text + " as " + clazz);
+            }
+        }
+
+        properties.clear();
+
+        for (final String text : TEMPLATES) {
+            assertEquals(
+                    PlaceholderTemplate.expand(text, properties, String.class),
+                    PlaceholderTemplate.compile(text).interpolate(properties, String.class),
+                    text);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("boxing")
+    void testResults() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "world");
+        properties.put("number", 42);
+
+        final PlaceholderTemplate plain = PlaceholderTemplate.compile("plain");
+        assertSame(plain.text, plain.interpolate(properties, String.class));
+
+        assertEquals("world", PlaceholderTemplate.compile("name").interpolate(properties, String.class));
+        assertEquals(42, PlaceholderTemplate.compile("${number}").interpolate(properties, Integer.class));
+        assertEquals("42", PlaceholderTemplate.compile("${number}").interpolate(properties, String.class));
+        assertEquals(
+                "Hello world, hi",
+                PlaceholderTemplate.compile("Hello ${name}, ${greeting:-hi}").interpolate(properties, String.class));
+
+        // results follow the current properties
+        properties.put("greeting", "bye");
+        assertEquals(
+                "Hello world, bye",
+                PlaceholderTemplate.compile("Hello ${name}, ${greeting:-hi}").interpolate(properties, String.class));
+    }
+
+    @Test
+    void testRecursiveConfiguration() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("loop", "${loop}");
+
+        final PlaceholderTemplate template = PlaceholderTemplate.compile("${loop}");
+        assertThrows(ProvisionException.class, () -> template.interpolate(properties, String.class));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import org.eclipse.sisu.BaseTests;
+import org.eclipse.sisu.inject.DefaultBeanLocator;
+import org.eclipse.sisu.inject.InjectorBindings;
+import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.eclipse.sisu.inject.Versioned;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class SnapshotAdapterTest {
+    @SuppressWarnings("boxing")
+    @Test
+    void testUnversionedSequence() {
+        final Map<String, Integer> original = new LinkedHashMap<>();
+        final List<Integer> list = new SnapshotListAdapter<>(original.entrySet());
+        final Set<Integer> set = new SnapshotSetAdapter<>(original.entrySet());
+        final Map<String, Integer> map = new SnapshotMapAdapter<>(original.entrySet());
+
+        assertTrue(list instanceof RandomAccess);
+        assertTrue(list.isEmpty());
+        assertTrue(set.isEmpty());
+        assertTrue(map.isEmpty());
+
+        original.put("A", 1);
+        original.put("B", 2);
+        original.put("C", 3);
+
+        // plain collections aren't versioned, so every call sees the latest content
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertEquals(2, list.get(1));
+        assertEquals(3, set.size());
+        assertEquals(original, map);
+        assertEquals(3, map.get("C"));
+        assertTrue(map.containsKey("A"));
+        assertFalse(map.containsKey("D"));
+
+        original.remove("B");
+
+        assertEquals(Arrays.asList(1, 3), list);
+        assertEquals(3, list.get(1));
+        assertEquals(2, set.size());
+        assertNull(map.get("B"));
+        assertEquals(2, map.size());
+    }
+
+    @SuppressWarnings("boxing")
+    @Test
+    void testFirstEntryWins() {
+        final List<Map.Entry<String, Integer>> entries =
+                Arrays.asList(new SimpleEntry<>("A", 1), new SimpleEntry<>("B", 2), new SimpleEntry<>("A", 3));
+
+        final Map<String, Integer> map = new SnapshotMapAdapter<>(entries);
+
+        assertEquals(1, map.get("A"));
+        assertEquals(2, map.get("B"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void testVersionedSequence() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        locator.add(new InjectorBindings(injector("A", "B")));
+
+        final Iterable<? extends Map.Entry<Named, Bean>> beans = locator.locate(Key.get(Bean.class, Named.class));
+        assertTrue(beans instanceof Versioned);
+
+        // no version until the pending bindings have been read
+        assertNull(((Versioned) beans).version());
+
+        final List<Bean> list = new SnapshotListAdapter<>(beans);
+        final Map<Named, Bean> map = new SnapshotMapAdapter<>(beans);
+
+        assertEquals(2, list.size());
+
+        final Object version = ((Versioned) beans).version();
+        assertNotNull(version);
+        assertSame(version, ((Versioned) beans).version());
+
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(Names.named("B")));
+        assertFalse(map.containsKey(Names.named("C")));
+
+        locator.add(new InjectorBindings(injector("C")));
+
+        assertNotEquals(version, ((Versioned) beans).version());
+
+        // snapshots notice the new binding without being recreated
+        assertEquals(3, list.size());
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(Names.named("C")));
+        assertSame(map.get(Names.named("C")), list.get(2));
+
+        final Iterator<Bean> itr = list.iterator();
+        locator.add(new InjectorBindings(injector("D")));
+
+        // iterators keep walking the snapshot they started with
+        int count = 0;
+        while (itr.hasNext()) {
+            itr.next();
+            count++;
+        }
+        assertEquals(3, count);
+        assertEquals(4, list.size());
+    }
+
+    static Injector injector(final String... names) {
+        return Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                for (final String name : names) {
+                    bind(Bean.class).annotatedWith(Names.named(name)).toInstance(new Bean());
+                }
+            }
+        });
+    }
+
+    static class Bean {}
+}
@@ -14,6 +14,7 @@ package org.eclipse.sisu.mojos;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -41,6 +42,7 @@ import org.apache.maven.shared.artifact.filter.collection.TypeFilter;
 import org.codehaus.plexus.build.BuildContext;
 import org.codehaus.plexus.util.Scanner;
 import org.codehaus.plexus.util.StringUtils;
+import org.codehaus.plexus.util.io.CachingOutputStream;
 import org.codehaus.plexus.util.io.CachingWriter;
 import org.eclipse.sisu.space.SisuIndex;
 import org.eclipse.sisu.space.URLClassSpace;
@@ -185,6 +187,16 @@ public class IndexMojo extends AbstractMojo {
                     return new CachingWriter(p, StandardCharsets.UTF_8);
                 }
 
+                @Override
+                protected OutputStream getOutputStream(String path) throws IOException {
+                    Path p = outputDirectory.toPath().resolve(path);
+                    Path d = p.getParent();
+                    if (!Files.isDirectory(d)) {
+                        Files.createDirectories(d);
+                    }
+                    return new CachingOutputStream(p);
+                }
+
                 @Override
                 protected void info(final String message) {
                     getLog().info(message);
@@ -15,11 +15,12 @@ package org.eclipse.sisu.plexus;
 import com.google.inject.name.Named;
 import java.util.Iterator;
 import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * Sequence of {@link PlexusBean}s backed by {@link BeanEntry}s.
  */
-final class DefaultPlexusBeans<T> implements Iterable<PlexusBean<T>> {
+final class DefaultPlexusBeans<T> implements Iterable<PlexusBean<T>>, Versioned {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -43,6 +44,11 @@ final class DefaultPlexusBeans<T> implements Iterable<PlexusBean<T>> {
         return new Itr();
     }
 
+    @Override
+    public Object version() {
+        return beans instanceof Versioned ? ((Versioned) beans).version() : null;
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
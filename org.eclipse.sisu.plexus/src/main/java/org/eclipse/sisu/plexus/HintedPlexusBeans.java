@@ -18,11 +18,12 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * Hint-driven sequence of {@link PlexusBean}s that uses {@link MissingPlexusBean}s to indicate missing hints.
  */
-final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>> {
+final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>>, Versioned {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -70,4 +71,9 @@ final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>> {
 
         return plexusBeans.iterator();
     }
+
+    @Override
+    public Object version() {
+        return beans instanceof Versioned ? ((Versioned) beans).version() : null;
+    }
 }
@@ -24,9 +24,9 @@ import java.util.Set;
 import javax.inject.Provider;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.eclipse.sisu.bean.BeanProperty;
-import org.eclipse.sisu.wire.EntryListAdapter;
-import org.eclipse.sisu.wire.EntryMapAdapter;
-import org.eclipse.sisu.wire.EntrySetAdapter;
+import org.eclipse.sisu.wire.SnapshotListAdapter;
+import org.eclipse.sisu.wire.SnapshotMapAdapter;
+import org.eclipse.sisu.wire.SnapshotSetAdapter;
 
 /**
  * Creates {@link Provider}s for properties with @{@link Requirement} metadata.
@@ -145,7 +145,7 @@ final class PlexusRequirements {
 
         @Override
         public Map<String, T> get() {
-            return new EntryMapAdapter<>(locate());
+            return new SnapshotMapAdapter<>(locate());
         }
     }
 
@@ -168,7 +168,7 @@ final class PlexusRequirements {
 
         @Override
         public List<T> get() {
-            return new EntryListAdapter<>(locate());
+            return new SnapshotListAdapter<>(locate());
         }
     }
 
@@ -191,7 +191,7 @@ final class PlexusRequirements {
 
         @Override
         public Set<T> get() {
-            return new EntrySetAdapter<>(locate());
+            return new SnapshotSetAdapter<>(locate());
         }
     }
 
@@ -13,16 +13,18 @@
 package org.eclipse.sisu.plexus;
 
 import com.google.inject.name.Named;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.Versioned;
 
 /**
  * Sequence of {@link BeanEntry}s filtered according to whether they are visible from the current {@link ClassRealm}.
  */
-final class RealmFilteredBeans<T> implements Iterable<BeanEntry<Named, T>> {
+final class RealmFilteredBeans<T> implements Iterable<BeanEntry<Named, T>>, Versioned {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -53,6 +55,16 @@ final class RealmFilteredBeans<T> implements Iterable<BeanEntry<Named, T>> {
         return beans.iterator();
     }
 
+    @Override
+    public Object version() {
+        final Object version = beans instanceof Versioned ? ((Versioned) beans).version() : null;
+        if (null == version) {
+            return null;
+        }
+        // visibility depends on the calling context, so include it in the version
+        return Arrays.asList(version, realmManager.visibleRealmNames(RealmManager.contextRealm()));
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------